@@ -0,0 +1,91 @@
+package me.winter.gdx.animation.benchmark;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, typically from two commits, printing the score of
+ * each benchmark in both and the change between them.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar me.winter.gdx.animation.benchmark.CompareResults before.json after.json}
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class CompareResults
+{
+	private CompareResults() {}
+
+	public static void main(String[] args) throws IOException
+	{
+		if(args.length != 2)
+		{
+			System.err.println("Usage: CompareResults <before.json> <after.json>");
+			System.exit(1);
+		}
+
+		JsonValue before = read(args[0]), after = read(args[1]);
+
+		ObjectMap<String, JsonValue> previous = new ObjectMap<>();
+		for(JsonValue result = before.child; result != null; result = result.next)
+			previous.put(getName(result), result.get("primaryMetric"));
+
+		System.out.println(String.format(Locale.ENGLISH, "%-60s %14s %14s %8s %s", "Benchmark", "Before", "After", "Change", "Unit"));
+
+		for(JsonValue result = after.child; result != null; result = result.next)
+		{
+			String name = getName(result);
+			JsonValue metric = result.get("primaryMetric");
+			JsonValue previousMetric = previous.remove(name);
+
+			String unit = metric.getString("scoreUnit");
+			double score = metric.getDouble("score");
+
+			if(previousMetric == null || !unit.equals(previousMetric.getString("scoreUnit")))
+			{
+				System.out.println(String.format(Locale.ENGLISH, "%-60s %14s %14.3f %8s %s", name, "-", score, "new", unit));
+				continue;
+			}
+
+			double previousScore = previousMetric.getDouble("score");
+			double change = (score - previousScore) / previousScore * 100.0;
+
+			System.out.println(String.format(Locale.ENGLISH, "%-60s %14.3f %14.3f %+7.1f%% %s", name, previousScore, score, change, unit));
+		}
+
+		for(ObjectMap.Entry<String, JsonValue> removed : previous)
+			System.out.println(String.format(Locale.ENGLISH, "%-60s %14.3f %14s %8s %s", removed.key, removed.value.getDouble("score"), "-", "removed", removed.value.getString("scoreUnit")));
+	}
+
+	private static JsonValue read(String path) throws IOException
+	{
+		try(InputStream stream = new FileInputStream(new File(path)))
+		{
+			return new JsonReader().parse(stream);
+		}
+	}
+
+	/**
+	 * @return short name of the benchmark of the specified result, followed by its parameters
+	 */
+	private static String getName(JsonValue result)
+	{
+		String benchmark = result.getString("benchmark");
+		StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+
+		JsonValue params = result.get("params");
+		if(params != null)
+			for(JsonValue param = params.child; param != null; param = param.next)
+				name.append(' ').append(param.name).append('=').append(param.asString());
+
+		return name.toString();
+	}
+}
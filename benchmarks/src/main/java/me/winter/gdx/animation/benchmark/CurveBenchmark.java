@@ -0,0 +1,129 @@
+package me.winter.gdx.animation.benchmark;
+
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.Constraints;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.badlogic.gdx.math.MathUtils.clamp;
+import static me.winter.gdx.animation.math.Interpolator.bezier;
+import static me.winter.gdx.animation.math.Interpolator.cubic;
+import static me.winter.gdx.animation.math.Interpolator.linear;
+import static me.winter.gdx.animation.math.Interpolator.quadratic;
+import static me.winter.gdx.animation.math.Interpolator.quartic;
+import static me.winter.gdx.animation.math.Interpolator.quintic;
+import static me.winter.gdx.animation.math.Interpolator.solveCubic;
+
+/**
+ * Compares, for each curve type, tweening the six channels of a part as done before (one de Casteljau evaluation or
+ * cubic solving per channel) with easing once through {@link Curve#ease(float)} and interpolating linearly.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurveBenchmark
+{
+	private static final int CHANNELS = 6, VALUES = 1024;
+
+	@Param({"LINEAR", "QUADRATIC", "CUBIC", "QUARTIC", "QUINTIC", "BEZIER"})
+	public CurveType type;
+
+	private Curve curve;
+
+	private final float[] start = new float[CHANNELS], end = new float[CHANNELS], result = new float[CHANNELS];
+	private final float[] values = new float[VALUES];
+	private int value;
+
+	@Setup
+	public void setup()
+	{
+		curve = new Curve(type, 0.25f, 0.4f, 0.7f, 0.95f);
+
+		for(int i = 0; i < CHANNELS; i++)
+		{
+			start[i] = i * 10f;
+			end[i] = i * -7f + 3f;
+		}
+
+		for(int i = 0; i < VALUES; i++)
+			values[i] = (i + 0.5f) / VALUES;
+	}
+
+	@Benchmark
+	public float[] perChannel()
+	{
+		float value = nextValue();
+
+		for(int i = 0; i < CHANNELS; i++)
+			result[i] = interpolate(curve, start[i], end[i], value);
+
+		return result;
+	}
+
+	@Benchmark
+	public float[] easeOnce()
+	{
+		float weight = curve.ease(nextValue());
+
+		for(int i = 0; i < CHANNELS; i++)
+			result[i] = linear(start[i], end[i], weight);
+
+		return result;
+	}
+
+	private float nextValue()
+	{
+		value = (value + 1) & (VALUES - 1);
+		return values[value];
+	}
+
+	/**
+	 * Curve evaluation as done before tables of bezier parameters and polynomial coefficients, kept as a baseline
+	 */
+	private static float interpolate(Curve curve, float a, float b, float value)
+	{
+		Constraints constraints = curve.constraints;
+
+		switch(curve.getType())
+		{
+			case INSTANT:
+				return a;
+			case LINEAR:
+				return linear(a, b, value);
+			case QUADRATIC:
+				return quadratic(a, linear(a, b, constraints.c1), b, value);
+			case CUBIC:
+				return cubic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), b, value);
+			case QUARTIC:
+				return quartic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), linear(a, b, constraints.c3), b, value);
+			case QUINTIC:
+				return quintic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), linear(a, b, constraints.c3), linear(a, b, constraints.c4), b, value);
+			case BEZIER:
+				float cubicSolution = solveCubic(3f * (constraints.c1 - constraints.c3) + 1f, 3f * (constraints.c3 - 2f * constraints.c1), 3f * constraints.c1, -value);
+				if(cubicSolution == -1)
+					cubicSolution = clamp(value, 0f, 1f);
+				return linear(a, b, bezier(cubicSolution, 0f, constraints.c2, constraints.c4, 1f));
+			default:
+				return linear(a, b, value);
+		}
+	}
+}
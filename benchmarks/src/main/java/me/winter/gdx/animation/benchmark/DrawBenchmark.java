@@ -0,0 +1,87 @@
+package me.winter.gdx.animation.benchmark;
+
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.fixture.Fixtures;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import me.winter.gdx.animation.render.RecordingBatch;
+import me.winter.gdx.animation.render.VertexRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing an animation through {@link Animation#draw(com.badlogic.gdx.graphics.g2d.Batch)} and through a
+ * {@link VertexRenderer}, against a {@link RecordingBatch} which does not record, so that only the work of the draw
+ * path and of computing vertices is measured.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DrawBenchmark
+{
+	private static final int KEYS = 8;
+
+	@Param({"4", "16", "64"})
+	public int sprites;
+
+	private Animation animation;
+	private RecordingBatch batch;
+	private VertexRenderer renderer;
+
+	@Setup
+	public void setup()
+	{
+		animation = Fixtures.animation(sprites, KEYS, CurveType.LINEAR);
+		animation.update(Fixtures.LENGTH / 3f);
+
+		batch = new RecordingBatch(1000, false);
+		renderer = new VertexRenderer();
+	}
+
+	@Setup(Level.Iteration)
+	public void begin()
+	{
+		batch.reset();
+		batch.begin();
+	}
+
+	@TearDown(Level.Iteration)
+	public void end()
+	{
+		batch.end();
+	}
+
+	@Benchmark
+	public RecordingBatch animationDraw()
+	{
+		animation.draw(batch);
+		return batch;
+	}
+
+	@Benchmark
+	public RecordingBatch vertexRenderer()
+	{
+		renderer.draw(batch, animation);
+		renderer.flush(batch);
+		return batch;
+	}
+}
@@ -0,0 +1,115 @@
+package me.winter.gdx.animation.benchmark;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.XmlReader;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.scml.CompiledSCMLReader;
+import me.winter.gdx.animation.scml.SCMLCompiler;
+import me.winter.gdx.animation.scml.SCMLProject;
+import me.winter.gdx.animation.scml.SCMLReader;
+import me.winter.gdx.animation.scml.SCMLStreamReader;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Compares loading a large generated project with {@link SCMLReader}, which builds the tree of elements first, with
+ * {@link SCMLStreamReader} and with {@link CompiledSCMLReader}, from the project compiled by {@link SCMLCompiler}.
+ * Prints the time and the bytes allocated by a load, and the heap held by the tree of elements and by the loaded
+ * project. At its peak, the DOM reader holds the document, its tree and the project, while the streaming reader only
+ * holds its buffer and the project, plus the document here as it is loaded from a string.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar me.winter.gdx.animation.benchmark.LoadComparison [scale]}
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class LoadComparison
+{
+	private static final int RUNS = 5;
+	private static final double MB = 1024.0 * 1024.0;
+
+	private static Object retained; //keeps what is measured reachable
+
+	private LoadComparison() {}
+
+	public static void main(String[] args)
+	{
+		int scale = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setFolders(4);
+		generator.setFiles(8);
+		generator.setEntities(4 * scale);
+		generator.setAnimations(4);
+		generator.setBones(16);
+		generator.setSprites(16);
+		generator.setKeys(12);
+		generator.setLength(2000);
+
+		TextureAtlas atlas = generator.createAtlas();
+		String xml = generator.generate();
+
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+
+		SCMLStreamReader streamReader = new SCMLStreamReader();
+		streamReader.setAtlas(atlas);
+
+		CompiledSCMLReader compiledReader = new CompiledSCMLReader();
+		compiledReader.setAtlas(atlas);
+
+		byte[] compiled = new SCMLCompiler().compile(reader.load(xml));
+
+		System.out.println(String.format(Locale.ENGLISH, "Document: %.1f MB of text", xml.length() * 2 / MB));
+		System.out.println(String.format(Locale.ENGLISH, "Compiled: %.1f MB", compiled.length / MB));
+		System.out.println(String.format(Locale.ENGLISH, "Element tree: %.1f MB", retainedSize(() -> new XmlReader().parse(xml)) / MB));
+		System.out.println(String.format(Locale.ENGLISH, "Project: %.1f MB", retainedSize(() -> streamReader.load(xml)) / MB));
+
+		System.out.println(String.format(Locale.ENGLISH, "%-8s %12s %16s", "Reader", "Time (ms)", "Allocated (MB)"));
+		measure("dom", () -> reader.load(xml));
+		measure("stream", () -> streamReader.load(xml));
+		measure("compiled", () -> compiledReader.load(compiled));
+	}
+
+	private static void measure(String name, Supplier<SCMLProject> load)
+	{
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+
+		load.get(); //warm up
+
+		long allocated = threads.getThreadAllocatedBytes(thread);
+		long start = System.nanoTime();
+
+		for(int i = 0; i < RUNS; i++)
+			retained = load.get();
+
+		long time = System.nanoTime() - start;
+		allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+		retained = null;
+
+		System.out.println(String.format(Locale.ENGLISH, "%-8s %12.1f %16.1f", name, time / 1e6 / RUNS, allocated / MB / RUNS));
+	}
+
+	private static long retainedSize(Supplier<Object> supplier)
+	{
+		long before = usedHeap();
+		retained = supplier.get();
+		long size = usedHeap() - before;
+		retained = null;
+		return size;
+	}
+
+	private static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+
+		for(int i = 0; i < 4; i++)
+			System.gc();
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,135 @@
+package me.winter.gdx.animation.benchmark;
+
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.Mainline;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the mainline key lookups: the former linear scan, the binary search and the cursor, both for random seeks
+ * and for playback advancing by a frame.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MainlineBenchmark
+{
+	private static final int KEY_INTERVAL = 50, FRAME = 16, SEEKS = 1024;
+
+	@Param({"10", "100", "1000"})
+	public int keys;
+
+	private Mainline mainline;
+	private int length;
+
+	private final int[] seeks = new int[SEEKS];
+	private int seek;
+
+	private int time, cursor;
+
+	@Setup
+	public void setup()
+	{
+		mainline = new Mainline(keys);
+
+		for(int i = 0; i < keys; i++)
+			mainline.getKeys().add(new MainlineKey(i * KEY_INTERVAL, new Curve(CurveType.LINEAR), new Array<ObjectRef>()));
+
+		length = keys * KEY_INTERVAL;
+
+		Random random = new Random(0);
+
+		for(int i = 0; i < SEEKS; i++)
+			seeks[i] = random.nextInt(length);
+	}
+
+	@Benchmark
+	public MainlineKey randomLinearScan()
+	{
+		return linearScan(mainline, nextSeek(), true);
+	}
+
+	@Benchmark
+	public MainlineKey randomBinarySearch()
+	{
+		return mainline.getKeyBeforeTime(nextSeek(), true);
+	}
+
+	@Benchmark
+	public MainlineKey playbackLinearScan()
+	{
+		return linearScan(mainline, nextFrame(), true);
+	}
+
+	@Benchmark
+	public MainlineKey playbackBinarySearch()
+	{
+		return mainline.getKeyBeforeTime(nextFrame(), true);
+	}
+
+	@Benchmark
+	public MainlineKey playbackCursor()
+	{
+		cursor = mainline.getKeyIndexBeforeTime(nextFrame(), true, cursor);
+		return mainline.getKeys().get(cursor);
+	}
+
+	private int nextSeek()
+	{
+		seek = (seek + 1) & (SEEKS - 1);
+		return seeks[seek];
+	}
+
+	private int nextFrame()
+	{
+		time += FRAME;
+
+		if(time >= length)
+			time -= length;
+
+		return time;
+	}
+
+	/**
+	 * Lookup as done before the binary search, kept as a baseline
+	 */
+	private static MainlineKey linearScan(Mainline mainline, int time, boolean wrapAround)
+	{
+		Array<MainlineKey> keys = mainline.getKeys();
+		MainlineKey found = wrapAround ? keys.get(keys.size - 1) : keys.get(0);
+
+		for(int i = 0; i < keys.size; i++)
+		{
+			MainlineKey key = keys.get(i);
+
+			if(key.time > time)
+				break;
+			found = key;
+		}
+
+		return found;
+	}
+}
@@ -0,0 +1,92 @@
+package me.winter.gdx.animation.benchmark;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import me.winter.gdx.animation.Entity;
+import me.winter.gdx.animation.fixture.Fixtures;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import me.winter.gdx.animation.scml.CompiledSCMLReader;
+import me.winter.gdx.animation.scml.SCMLCompiler;
+import me.winter.gdx.animation.scml.SCMLProject;
+import me.winter.gdx.animation.scml.SCMLReader;
+import me.winter.gdx.animation.scml.SCMLStreamReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a project with {@link SCMLReader#load(String)}, {@link SCMLStreamReader#load(String)} and
+ * {@link CompiledSCMLReader#load(byte[])}, and creating entities from it with {@link SCMLProject#getEntity(String)}.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectBenchmark
+{
+	private static final int KEYS = 8;
+
+	@Param({"4", "16", "64"})
+	public int bones;
+
+	private TextureAtlas atlas;
+	private String xml;
+	private byte[] compiled;
+	private SCMLProject project;
+
+	@Setup
+	public void setup()
+	{
+		SCMLGenerator generator = Fixtures.generator(bones, KEYS, CurveType.CUBIC);
+		atlas = generator.createAtlas();
+		xml = generator.generate();
+		compiled = new SCMLCompiler().compile(load());
+		project = load();
+	}
+
+	@Benchmark
+	public SCMLProject load()
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		return reader.load(xml);
+	}
+
+	@Benchmark
+	public SCMLProject loadStreaming()
+	{
+		SCMLStreamReader reader = new SCMLStreamReader();
+		reader.setAtlas(atlas);
+		return reader.load(xml);
+	}
+
+	@Benchmark
+	public SCMLProject loadCompiled()
+	{
+		CompiledSCMLReader reader = new CompiledSCMLReader();
+		reader.setAtlas(atlas);
+		return reader.load(compiled);
+	}
+
+	@Benchmark
+	public Entity getEntity()
+	{
+		return project.getEntity(SCMLGenerator.getEntityName(0));
+	}
+}
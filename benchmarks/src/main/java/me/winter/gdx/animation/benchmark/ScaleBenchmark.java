@@ -0,0 +1,134 @@
+package me.winter.gdx.animation.benchmark;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.scml.CompiledSCMLReader;
+import me.winter.gdx.animation.scml.SCMLCompiler;
+import me.winter.gdx.animation.scml.SCMLProject;
+import me.winter.gdx.animation.scml.SCMLReader;
+import me.winter.gdx.animation.scml.SCMLStreamReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a generated project, with each reader and with its animations built in parallel, and updating every
+ * animation of it, for projects from the size of a real one to a hundred times larger. The project at scale 1 has 4
+ * entities of 4 animations, each animating 16 bones in chains of 4 and 16 sprites over 12 keys of mixed curves, using
+ * 32 images over 2 textures. Loads include computing the bounds of every animation, on the pool for parallel loads.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScaleBenchmark
+{
+	private static final float FRAME = 1000f / 60f;
+
+	@Param({"1", "10", "100"})
+	public int scale;
+
+	private TextureAtlas atlas;
+	private String xml;
+	private byte[] compiled;
+
+	private final Array<Animation> animations = new Array<>();
+
+	@Setup
+	public void setup()
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setFolders(4);
+		generator.setFiles(8);
+		generator.setTextures(2);
+		generator.setEntities(4 * scale);
+		generator.setAnimations(4);
+		generator.setBones(16);
+		generator.setDepth(4);
+		generator.setSprites(16);
+		generator.setKeys(12);
+		generator.setLength(2000);
+
+		atlas = generator.createAtlas();
+		xml = generator.generate();
+		compiled = new SCMLCompiler().compile(load());
+
+		for(EntityData entity : load().getSourceEntities())
+			for(int i = 0; i < entity.getAnimations().size; i++)
+				animations.add(new Animation(entity.getAnimations().get(i)));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public SCMLProject load()
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		return reader.load(xml);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public SCMLProject loadParallel()
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		reader.setAnimationPool(ForkJoinPool.commonPool());
+		return reader.load(xml);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public SCMLProject loadStreaming()
+	{
+		SCMLStreamReader reader = new SCMLStreamReader();
+		reader.setAtlas(atlas);
+		return reader.load(xml);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public SCMLProject loadCompiled()
+	{
+		CompiledSCMLReader reader = new CompiledSCMLReader();
+		reader.setAtlas(atlas);
+		return reader.load(compiled);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public Array<Animation> updateAll()
+	{
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).update(FRAME);
+
+		return animations;
+	}
+}
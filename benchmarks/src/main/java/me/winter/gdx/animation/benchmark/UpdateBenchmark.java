@@ -0,0 +1,60 @@
+package me.winter.gdx.animation.benchmark;
+
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.fixture.Fixtures;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Animation#update(float)} advancing a looping animation by a frame, for hierarchies of different
+ * sizes and for different curves.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark
+{
+	private static final int KEYS = 8;
+	private static final float FRAME = 1000f / 60f;
+
+	@Param({"4", "16", "64"})
+	public int bones;
+
+	@Param({"LINEAR", "CUBIC", "BEZIER"})
+	public CurveType curve;
+
+	private Animation animation;
+
+	@Setup
+	public void setup()
+	{
+		animation = Fixtures.animation(bones, KEYS, curve);
+		animation.update(0f);
+	}
+
+	@Benchmark
+	public Animation update()
+	{
+		animation.update(FRAME);
+		return animation;
+	}
+}
@@ -2,31 +2,47 @@ package me.winter.gdx.animation;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.badlogic.gdx.utils.OrderedMap;
-import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
 
 import java.util.function.Consumer;
 
+import static me.winter.gdx.animation.math.Interpolator.linear;
+import static me.winter.gdx.animation.math.Interpolator.spinAngle;
+
 /**
- * Represents an animation of a Spriter SCML file. An animation holds {@link Timeline}s and a {@link Mainline} to
- * animate objects. Furthermore it holds a {@link #length}, a {@link #name} and whether it is {@link
- * #looping} or not.
+ * Represents an animation of a Spriter SCML file being played. An animation plays an {@link AnimationData}, shared
+ * with every other animation playing it, and holds its own state: the {@link #time}, {@link #speed}, {@link #alpha},
+ * the {@link Pose} and the transformations.
  *
  * @author Alexander Winter
  */
 public class Animation
 {
-	private final String name;
-	private final int length; // millis
+	/**
+	 * Drawable override hiding a sprite, since null means no override
+	 */
+	private static final SpriteDrawable NO_DRAWABLE = (sprite, batch) -> {};
+
+	private final AnimationData data;
 	private boolean looping;
 
-	private final Mainline mainline;
-	private final Array<Timeline> timelines;
+	private final Pose pose; //tweened values of every part, indexed by timeline id
+	private final Array<AnimatedPart> tweenedObjects; //view of the pose for callers working with objects
+	private final Sprite drawnSprite = new Sprite(); //view of the pose for drawables, only used while drawing
+	private final Rectangle drawnBounds = new Rectangle(); //bounds of the drawable of a sprite, only used while drawing
 
-	private final Array<AnimatedPart> tweenedObjects; //sprites made on runtime by tweening original sprites from animation
-	private final OrderedMap<Integer, Sprite> sprites;
+	private BakedAnimation baked; //samples played instead of tweening, null to tween
+	private PoseBuffer snapshots; //published poses for drawing, null when drawing the pose directly
+	private Pose interpolatedPose; //owned by the rendering thread
+
+	/**
+	 * Drawables of this instance replacing the ones of the keys, indexed by timeline id then key index. Allocated per
+	 * timeline on first override.
+	 */
+	private final SpriteDrawable[][] drawables;
 
 	private final ObjectMap<String, Consumer<AnimatedPart>> transformations = new ObjectMap<>();
 
@@ -36,59 +52,156 @@ public class Animation
 	private float time = 0;
 	private float speed = 1f, alpha = 1f;
 
+	private int mainlineCursor = 0; //index of the current mainline key, to resume the lookup from
+
 	private AnimatedPart root = new AnimatedPart();
 
 	public Animation(String name, int length, boolean looping, Mainline mainline, Array<Timeline> timelines)
 	{
-		this.name = name;
+		this(new AnimationData(name, length, looping, mainline, timelines));
+	}
 
-		this.length = length;
-		this.looping = looping;
+	public Animation(AnimationData data)
+	{
+		this.data = data;
+		this.looping = data.isLooping();
 
-		this.mainline = mainline;
-		this.timelines = timelines;
+		Array<Timeline> timelines = data.getTimelines();
 
+		pose = new Pose(timelines.size);
 		tweenedObjects = new Array<>();
 		tweenedObjects.setSize(timelines.size);
-		sprites = new OrderedMap<>();
+		drawables = new SpriteDrawable[timelines.size][];
 
-		for(Timeline timeline : timelines)
+		for(int i = 0; i < timelines.size; i++)
 		{
-			if(timeline instanceof SpriteTimeline)
-			{
-				Sprite sprite = new Sprite();
-				tweenedObjects.set(timeline.getId(), sprite);
-				sprites.put(((SpriteTimeline)timeline).getZIndex(), sprite);
-			}
-			else
-				tweenedObjects.set(timeline.getId(), new AnimatedPart());
+			Timeline timeline = timelines.get(i);
+			tweenedObjects.set(timeline.getId(), timeline instanceof SpriteTimeline ? new Sprite() : new AnimatedPart());
 		}
-
-		sprites.orderedKeys().sort();
 	}
 
+	/**
+	 * Creates a new animation playing the same data, with a copy of the drawables of the specified animation
+	 *
+	 * @param animation animation to copy
+	 */
 	public Animation(Animation animation)
 	{
-		this(animation.name,
-				animation.length,
-				animation.looping,
-				new Mainline(animation.mainline),
-				Timeline.clone(animation.timelines));
+		this(animation.data);
+
+		this.looping = animation.looping;
+
+		for(int i = 0; i < drawables.length; i++)
+			if(animation.drawables[i] != null)
+				drawables[i] = animation.drawables[i].clone();
 	}
 
+	/**
+	 * Draws this animation. When snapshots are enabled, draws the last published pose instead of the one being
+	 * updated.
+	 *
+	 * @param batch batch to draw with
+	 */
 	public void draw(Batch batch)
+	{
+		draw(batch, acquirePose(), null);
+	}
+
+	/**
+	 * Draws the sprites of this animation which can be seen in the specified view, skipping the others. When
+	 * snapshots are enabled, draws the last published pose instead of the one being updated.
+	 *
+	 * @param batch batch to draw with
+	 * @param view view to draw in, in world coordinates
+	 */
+	public void draw(Batch batch, Rectangle view)
+	{
+		draw(batch, acquirePose(), view);
+	}
+
+	/**
+	 * Draws this animation in between the last two published poses. Draws the last published pose when snapshots are
+	 * not interpolated, or the current pose when snapshots are disabled.
+	 *
+	 * @param batch batch to draw with
+	 * @param interpolation the weight which lies between 0.0 (previous pose) and 1.0 (last published pose)
+	 */
+	public void draw(Batch batch, float interpolation)
+	{
+		draw(batch, acquirePose(interpolation), null);
+	}
+
+	/**
+	 * Draws the sprites of this animation which can be seen in the specified view, in between the last two published
+	 * poses. Draws the last published pose when snapshots are not interpolated, or the current pose when snapshots are
+	 * disabled.
+	 *
+	 * @param batch batch to draw with
+	 * @param interpolation the weight which lies between 0.0 (previous pose) and 1.0 (last published pose)
+	 * @param view view to draw in, in world coordinates, null to draw every sprite
+	 */
+	public void draw(Batch batch, float interpolation, Rectangle view)
+	{
+		draw(batch, acquirePose(interpolation), view);
+	}
+
+	private void draw(Batch batch, Pose pose, Rectangle view)
 	{
 		float prevColor = batch.getPackedColor();
 		Color tmp = batch.getColor();
 		tmp.a *= alpha;
 		batch.setColor(tmp);
 
-		for(Sprite sprite : sprites.values())
-			sprite.draw(batch);
+		int[] drawOrder = data.getDrawOrder();
+
+		if(tmp.a > 0f)
+		{
+			for(int i = 0; i < drawOrder.length; i++)
+			{
+				int index = drawOrder[i];
+
+				if(pose.drawable[index] == null || pose.alpha[index] <= 0f)
+					continue;
+
+				if(view != null && pose.drawable[index].getBounds(drawnBounds) && !pose.overlaps(index, drawnBounds, view))
+					continue;
+
+				pose.drawable[index].draw(pose, index, drawnSprite, batch);
+			}
+		}
 
 		batch.setPackedColor(prevColor);
 	}
 
+	/**
+	 * Returns the pose to draw: the last published pose when snapshots are enabled, otherwise the pose being updated.
+	 * Must only be called by the rendering thread, once per frame.
+	 *
+	 * @return pose to draw
+	 */
+	public Pose acquirePose()
+	{
+		return snapshots != null ? snapshots.acquire() : pose;
+	}
+
+	/**
+	 * Returns the pose to draw in between the last two published poses, the last published pose when snapshots are not
+	 * interpolated, or the pose being updated when snapshots are disabled. Must only be called by the rendering
+	 * thread, once per frame.
+	 *
+	 * @param interpolation the weight which lies between 0.0 (previous pose) and 1.0 (last published pose)
+	 * @return pose to draw
+	 */
+	public Pose acquirePose(float interpolation)
+	{
+		if(snapshots == null || !snapshots.isInterpolated())
+			return acquirePose();
+
+		Pose current = snapshots.acquire();
+		interpolatedPose.lerp(snapshots.getPrevious(), current, interpolation);
+		return interpolatedPose;
+	}
+
 	/**
 	 * Updates this player. This means the current time gets increased by {@link #speed} and is applied to the current
 	 * animation.
@@ -99,73 +212,144 @@ public class Animation
 	{
 		setTime(time + speed * delta);
 
-		MainlineKey currentKey = mainline.getKeyBeforeTime((int)time, looping);
+		pose.set(pose.getRootIndex(), root);
+		pose.updateTransform(pose.getRootIndex());
+
+		if(baked != null && baked.isLooping() == looping)
+			updateBaked();
+		else
+		{
+			Mainline mainline = data.getMainline();
+			mainlineCursor = mainline.getKeyIndexBeforeTime((int)time, looping, mainlineCursor);
+			MainlineKey currentKey = mainline.getKeys().get(mainlineCursor);
+
+			for(int i = 0; i < currentKey.objectRefs.size; i++)
+				update(currentKey, currentKey.objectRefs.get(i), (int)time);
+		}
 
-		for(ObjectRef ref : currentKey.objectRefs)
-			update(currentKey, ref, (int)time);
+		if(snapshots != null)
+			snapshots.publish(pose);
 	}
 
 	protected void update(MainlineKey currentKey, ObjectRef ref, int time)
 	{
-		//Get the timelines, the ref's pointing to
-		Timeline timeline = timelines.get(ref.timeline);
-		AnimatedPart tweened = tweenedObjects.get(ref.timeline);
+		int index = ref.timeline;
+
+		if(tween(currentKey, ref, time))
+			transform(index);
 
-		TimelineKey key = timeline.getKeys().get(ref.key); //get the last previous key
+		pose.unmap(index, ref.parent != null ? ref.parent.timeline : pose.getRootIndex());
+	}
+
+	/**
+	 * Plays the {@link BakedAnimation}, interpolating linearly between the two samples around the current time
+	 */
+	private void updateBaked()
+	{
+		int sample = baked.getSampleBefore(time);
+		float weight = baked.getWeight(sample, time);
 
-		TimelineKey nextKey;
-		int timeOfNext;
+		MainlineKey currentKey = data.getMainline().getKeys().get(baked.getMainlineKey(sample));
 
-		if(ref.key + 1 == timeline.getKeys().size)
+		for(int i = 0; i < currentKey.objectRefs.size; i++)
 		{
-			if(!looping)
-			{
-				//no need to tween, stay freezed at first sprite
-				AnimatedPart tweenTarget = tweenedObjects.get(ref.timeline);
+			ObjectRef ref = currentKey.objectRefs.get(i);
+			int index = ref.timeline;
 
-				tweenTarget.set(key.getObject());
+			baked.sample(sample, weight, index, pose);
 
-				AnimatedPart parent = ref.parent != null ? tweenedObjects.get(ref.parent.timeline) : root;
-				tweenTarget.unmap(parent);
-				return;
-			}
+			if(data.getTimelines().get(index) instanceof SpriteTimeline)
+				pose.drawable[index] = getSpriteDrawable(index, baked.getKey(sample, index));
+
+			if(!ref.isWrapping() || looping)
+				transform(index);
 
-			nextKey = timeline.getKeys().get(0);
-			timeOfNext = nextKey.getTime() + length; //wrap around
+			pose.unmap(index, ref.parent != null ? ref.parent.timeline : pose.getRootIndex());
 		}
-		else
+	}
+
+	/**
+	 * Writes the local values of the referenced part at the specified time into the pose
+	 *
+	 * @param currentKey mainline key of the reference
+	 * @param ref reference to the part
+	 * @param time time in milliseconds
+	 * @return false if the part stays frozen at its key since the animation is not looping, otherwise true
+	 */
+	boolean tween(MainlineKey currentKey, ObjectRef ref, int time)
+	{
+		//Get the timelines, the ref's pointing to
+		Timeline timeline = data.getTimelines().get(ref.timeline);
+		int index = ref.timeline;
+
+		TimelineKey key = ref.getStartKey(); //get the last previous key
+
+		if(ref.isWrapping() && !looping)
 		{
-			nextKey = timeline.getKeys().get(ref.key + 1);
-			timeOfNext = nextKey.getTime();
+			//no need to tween, stay freezed at first sprite
+			pose.set(index, key.getObject());
+
+			if(timeline instanceof SpriteTimeline)
+				pose.drawable[index] = getSpriteDrawable(ref.timeline, ref.key);
+
+			return false;
 		}
 
-		float timeDiff = timeOfNext - key.getTime();
-		float timeRatio = currentKey.curve.interpolate(0f, 1f, (time - key.getTime()) / timeDiff);
+		TimelineKey nextKey = ref.getEndKey();
+		float timeRatio = currentKey.curve.ease((time - ref.getStartTime()) * ref.getInverseDuration());
 
 
 		//Tween object
 		AnimatedPart obj1 = key.getObject();
 		AnimatedPart obj2 = nextKey.getObject();
 
-		Curve curve = key.getCurve();
+		//ease once, then tween every channel with the same weight
+		float weight = key.getCurve().ease(timeRatio);
 
-		tweened.setAngle(curve.interpolateAngle(obj1.getAngle(), obj2.getAngle(), timeRatio, key.getSpin()));
-
-		curve.interpolateVector(obj1.getPosition(), obj2.getPosition(), timeRatio, tweened.getPosition());
-		curve.interpolateVector(obj1.getScale(), obj2.getScale(), timeRatio, tweened.getScale());
+		pose.angle[index] = spinAngle(obj1.getAngle(), obj2.getAngle(), weight, key.getSpin());
+		pose.x[index] = linear(obj1.getPosition().x, obj2.getPosition().x, weight);
+		pose.y[index] = linear(obj1.getPosition().y, obj2.getPosition().y, weight);
+		pose.scaleX[index] = linear(obj1.getScale().x, obj2.getScale().x, weight);
+		pose.scaleY[index] = linear(obj1.getScale().y, obj2.getScale().y, weight);
 
 		if(timeline instanceof SpriteTimeline)
 		{
-			((Sprite)tweened).setAlpha(curve.interpolate(((Sprite)obj1).getAlpha(), ((Sprite)obj2).getAlpha(), timeRatio));
-			((Sprite)tweened).setDrawable(((Sprite)obj1).getDrawable());
+			pose.alpha[index] = linear(((Sprite)obj1).getAlpha(), ((Sprite)obj2).getAlpha(), weight);
+			pose.drawable[index] = getSpriteDrawable(ref.timeline, ref.key);
 		}
 
-		Consumer<AnimatedPart> transform = transformations.get(timeline.getName());
+		return true;
+	}
+
+	/**
+	 * Applies the transformation of the part at the specified index, if any, to its local values
+	 *
+	 * @param index index of the part
+	 */
+	private void transform(int index)
+	{
+		Consumer<AnimatedPart> transform = transformations.get(data.getTimelines().get(index).getName());
 
 		if(transform != null)
+		{
+			AnimatedPart tweened = tweenedObjects.get(index);
+			pose.get(index, tweened);
 			transform.accept(tweened);
+			pose.set(index, tweened);
+		}
+	}
 
-		tweened.unmap(ref.parent != null ? tweenedObjects.get(ref.parent.timeline) : root);
+	/**
+	 * Tests if this animation, placed at its root, can draw anything inside the specified view. Callers can skip
+	 * updating and drawing animations which are not visible.
+	 *
+	 * @param view view to test against, in world coordinates
+	 * @return false if nothing of this animation can be drawn inside the view, otherwise true
+	 * @see AnimationBounds
+	 */
+	public boolean isVisible(Rectangle view)
+	{
+		return data.getBounds().overlaps(root, view);
 	}
 
 	public void reset()
@@ -179,24 +363,139 @@ public class Animation
 		return root;
 	}
 
+	/**
+	 * Returns the parts of this animation as objects, indexed by timeline id. The parts are a view of the {@link Pose}
+	 * and are refreshed from it each time this method is called.
+	 *
+	 * @return parts of this animation
+	 */
 	public Array<AnimatedPart> getParts()
 	{
+		for(int i = 0; i < tweenedObjects.size; i++)
+			pose.get(i, tweenedObjects.get(i));
+
 		return tweenedObjects;
 	}
 
+	/**
+	 * Returns the pose being updated. When snapshots are enabled, it must only be used by the updating thread.
+	 *
+	 * @return current pose of this animation
+	 */
+	public Pose getPose()
+	{
+		return pose;
+	}
+
+	/**
+	 * Enables or disables pose snapshots. With snapshots, every update publishes a copy of the pose and {@link
+	 * #draw(Batch)} reads the last published one, so that updating and drawing can happen on different threads.
+	 * Must not be called while updating or drawing.
+	 *
+	 * @param enabled true to publish snapshots, otherwise false
+	 * @param interpolated true to keep the previous snapshot for {@link #draw(Batch, float)}, otherwise false
+	 */
+	public void setSnapshots(boolean enabled, boolean interpolated)
+	{
+		if(!enabled)
+		{
+			snapshots = null;
+			interpolatedPose = null;
+			return;
+		}
+
+		snapshots = new PoseBuffer(pose.getSize(), interpolated);
+		interpolatedPose = interpolated ? new Pose(pose.getSize()) : null;
+		snapshots.publish(pose);
+	}
+
+	/**
+	 * Sets the baked samples to play instead of tweening the keys, as long as this animation loops the same way the
+	 * samples were baked.
+	 *
+	 * @param baked samples baked from the data of this animation, null to tween the keys
+	 * @throws IllegalArgumentException if the samples were baked from another animation
+	 */
+	public void setBaked(BakedAnimation baked)
+	{
+		if(baked != null && baked.getData() != data)
+			throw new IllegalArgumentException("Baked animation " + baked.getData().getName() + " does not match " + getName());
+
+		this.baked = baked;
+	}
+
+	public BakedAnimation getBaked()
+	{
+		return baked;
+	}
+
+	/**
+	 * @return buffer of the published poses, null if snapshots are disabled
+	 */
+	public PoseBuffer getSnapshots()
+	{
+		return snapshots;
+	}
+
+	/**
+	 * Returns the drawable of the specified key for this animation, which is either the one set with {@link
+	 * #setSpriteDrawable(int, int, SpriteDrawable)} or the one of the key's sprite.
+	 *
+	 * @param timeline id of the timeline
+	 * @param key index of the key in the timeline
+	 * @return drawable of the key, null if the key is not a sprite
+	 */
+	public SpriteDrawable getSpriteDrawable(int timeline, int key)
+	{
+		SpriteDrawable[] overrides = drawables[timeline];
+
+		if(overrides != null && overrides[key] != null)
+			return overrides[key] == NO_DRAWABLE ? null : overrides[key];
+
+		AnimatedPart object = data.getTimelines().get(timeline).getKeys().get(key).getObject();
+
+		return object instanceof Sprite ? ((Sprite)object).getDrawable() : null;
+	}
+
+	/**
+	 * Sets the drawable of the specified key for this animation only, leaving the shared {@link AnimationData}
+	 * untouched.
+	 *
+	 * @param timeline id of the timeline
+	 * @param key index of the key in the timeline
+	 * @param drawable drawable to use, null to draw nothing
+	 */
+	public void setSpriteDrawable(int timeline, int key, SpriteDrawable drawable)
+	{
+		if(drawables[timeline] == null)
+			drawables[timeline] = new SpriteDrawable[data.getTimelines().get(timeline).getKeys().size];
+
+		drawables[timeline][key] = drawable != null ? drawable : NO_DRAWABLE;
+	}
+
 	public ObjectMap<String, Consumer<AnimatedPart>> getTransformations()
 	{
 		return transformations;
 	}
 
+	public AnimationData getData()
+	{
+		return data;
+	}
+
+	/**
+	 * Returns the timelines of the shared {@link AnimationData}, they must not be modified.
+	 *
+	 * @return timelines of this animation
+	 */
 	public Array<Timeline> getTimelines()
 	{
-		return timelines;
+		return data.getTimelines();
 	}
 
 	public String getName()
 	{
-		return name;
+		return data.getName();
 	}
 
 	/**
@@ -213,15 +512,15 @@ public class Animation
 	{
 		if(looping)
 			while(time < 0)
-				time += length;
+				time += getLength();
 		else if(time < 0)
 			time = 0;
 
 		if(looping)
-			while(time >= length)
-				time -= length;
-		else if(time > length)
-			time = length;
+			while(time >= getLength())
+				time -= getLength();
+		else if(time > getLength())
+			time = getLength();
 
 		this.time = time;
 	}
@@ -248,7 +547,7 @@ public class Animation
 
 	public int getLength()
 	{
-		return length;
+		return data.getLength();
 	}
 
 	public boolean isLooping()
@@ -263,6 +562,6 @@ public class Animation
 
 	public boolean isDone()
 	{
-		return time == length;
+		return time == getLength();
 	}
 }
@@ -0,0 +1,284 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+
+import java.util.Arrays;
+
+import static com.badlogic.gdx.math.MathUtils.degreesToRadians;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static me.winter.gdx.animation.math.Interpolator.linear;
+
+/**
+ * Local bounds of everything an {@link AnimationData} draws over its whole length, relative to the root of the
+ * animation, used to cull animations outside of a view before updating and drawing them.
+ * <p>
+ * The bounds are conservative: rather than sampling the animation, they are derived from the extremes of the values
+ * each part can take between its keys, looping and not, following the chain of its parents. A part lies within the
+ * reach of its parent, its distance to its parent being scaled by at most the largest scale of its ancestors, and a
+ * sprite lies within the distance of its farthest corner to its pivot around its part. The bounds are found from the
+ * keys alone, in a single pass over the mainline.
+ * <p>
+ * They do not account for drawables overridden in an {@link Animation} nor for transformations applied to its parts.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationBounds
+{
+	private static final int DISTANCE = 0, SCALE = 1, MIN_X = 2, MIN_Y = 3, MAX_X = 4, MAX_Y = 5, VALUES = 6;
+
+	/**
+	 * Box around the corners of every sprite
+	 */
+	private float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+	private float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+
+	/**
+	 * Upper bound of the distance from the root to anything drawn, per unit of root scale, whatever the root scale
+	 */
+	private float reach = 0f;
+
+	private boolean bounded = true; //false if a drawable could not tell its bounds
+
+	/**
+	 * Bounds of each part while the span of a mainline key is included: its distance to the root, its largest scale
+	 * and the box around its position. Only used while computing.
+	 */
+	private float[] parts;
+	private boolean[] included;
+
+	/**
+	 * Computes the bounds of the specified animation
+	 *
+	 * @param data animation to compute the bounds of
+	 */
+	public AnimationBounds(AnimationData data)
+	{
+		parts = new float[data.getTimelines().size * VALUES];
+		included = new boolean[data.getTimelines().size];
+
+		Array<MainlineKey> keys = data.getMainline().getKeys();
+		Rectangle drawableBounds = new Rectangle();
+		Vector2 range = new Vector2();
+
+		for(int i = 0; i < keys.size && bounded; i++)
+		{
+			MainlineKey key = keys.get(i);
+			int end = i + 1 < keys.size ? keys.get(i + 1).time : data.getLength();
+
+			include(data, key, key.time, end, drawableBounds, range);
+
+			//before the first key, looping animations play the last key and the others the first one
+			if((i == 0 || i == keys.size - 1) && keys.first().time > 0)
+				include(data, key, 0, keys.first().time, drawableBounds, range);
+		}
+
+		parts = null;
+		included = null;
+	}
+
+	/**
+	 * Includes every part of the specified mainline key between the specified times
+	 */
+	private void include(AnimationData data, MainlineKey key, int from, int to, Rectangle drawableBounds, Vector2 range)
+	{
+		Arrays.fill(included, false);
+
+		for(int i = 0; i < key.objectRefs.size && bounded; i++)
+			include(data, key, key.objectRefs.get(i), from, to, drawableBounds, range);
+	}
+
+	/**
+	 * Includes the referenced part between the specified times, including its parent first
+	 */
+	private void include(AnimationData data, MainlineKey key, ObjectRef ref, int from, int to, Rectangle drawableBounds, Vector2 range)
+	{
+		int index = ref.timeline;
+
+		if(included[index])
+			return;
+
+		included[index] = true;
+
+		if(ref.parent != null)
+			include(data, key, ref.parent, from, to, drawableBounds, range);
+
+		//weights of the tween between the start and end keys over the span, eased as by Animation.tween
+		float start = (from - ref.getStartTime()) * ref.getInverseDuration();
+		float end = (to - ref.getStartTime()) * ref.getInverseDuration();
+
+		key.curve.getEaseRange(min(start, end), max(start, end), range);
+		ref.getStartKey().getCurve().getEaseRange(range.x, range.y, range);
+
+		float low = range.x, high = range.y;
+
+		if(ref.isWrapping()) //frozen at the start key when not looping
+		{
+			low = min(low, 0f);
+			high = max(high, 0f);
+		}
+
+		//values are linear in the weight, their extremes and the largest magnitudes are at the bounds of the weight
+		AnimatedPart a = ref.getStartKey().getObject(), b = ref.getEndKey().getObject();
+
+		float lowX = linear(a.getPosition().x, b.getPosition().x, low);
+		float lowY = linear(a.getPosition().y, b.getPosition().y, low);
+		float highX = linear(a.getPosition().x, b.getPosition().x, high);
+		float highY = linear(a.getPosition().y, b.getPosition().y, high);
+
+		float localReach = max(length(lowX, lowY), length(highX, highY));
+		float localScale = max(max(abs(linear(a.getScale().x, b.getScale().x, low)), abs(linear(a.getScale().x, b.getScale().x, high))),
+				max(abs(linear(a.getScale().y, b.getScale().y, low)), abs(linear(a.getScale().y, b.getScale().y, high))));
+
+		int offset = index * VALUES;
+
+		if(ref.parent == null)
+		{
+			parts[offset + DISTANCE] = localReach;
+			parts[offset + SCALE] = localScale;
+			parts[offset + MIN_X] = min(lowX, highX);
+			parts[offset + MIN_Y] = min(lowY, highY);
+			parts[offset + MAX_X] = max(lowX, highX);
+			parts[offset + MAX_Y] = max(lowY, highY);
+		}
+		else
+		{
+			//the parent turns the local position any way and scales it by at most its largest scale
+			int parent = ref.parent.timeline * VALUES;
+			float distance = parts[parent + SCALE] * localReach;
+
+			parts[offset + DISTANCE] = parts[parent + DISTANCE] + distance;
+			parts[offset + SCALE] = parts[parent + SCALE] * localScale;
+			parts[offset + MIN_X] = parts[parent + MIN_X] - distance;
+			parts[offset + MIN_Y] = parts[parent + MIN_Y] - distance;
+			parts[offset + MAX_X] = parts[parent + MAX_X] + distance;
+			parts[offset + MAX_Y] = parts[parent + MAX_Y] + distance;
+		}
+
+		if(!(data.getTimelines().get(index) instanceof SpriteTimeline))
+			return;
+
+		SpriteDrawable drawable = ((Sprite)ref.getStartKey().getObject()).getDrawable();
+
+		if(drawable == null)
+			return;
+
+		if(!drawable.getBounds(drawableBounds))
+		{
+			bounded = false;
+			return;
+		}
+
+		float left = drawableBounds.x, bottom = drawableBounds.y;
+		float right = left + drawableBounds.width, top = bottom + drawableBounds.height;
+
+		//the sprite turns any way around its part, its corners stay within the distance of the farthest one
+		float radius = parts[offset + SCALE] * length(max(abs(left), abs(right)), max(abs(bottom), abs(top)));
+
+		reach = max(reach, parts[offset + DISTANCE] + radius);
+		minX = min(minX, parts[offset + MIN_X] - radius);
+		minY = min(minY, parts[offset + MIN_Y] - radius);
+		maxX = max(maxX, parts[offset + MAX_X] + radius);
+		maxY = max(maxY, parts[offset + MAX_Y] + radius);
+	}
+
+	private static float length(float x, float y)
+	{
+		return (float)Math.sqrt(x * x + y * y);
+	}
+
+	/**
+	 * Tests if the bounds, placed at the specified root, overlap the specified view. Returns true when the bounds are
+	 * unknown.
+	 *
+	 * @param root root of the animation
+	 * @param view view to test against, in world coordinates
+	 * @return false if nothing of the animation can be drawn inside the view, otherwise true
+	 */
+	public boolean overlaps(AnimatedPart root, Rectangle view)
+	{
+		if(!bounded)
+			return true;
+
+		if(isEmpty())
+			return false;
+
+		float scaleX = root.getScale().x, scaleY = root.getScale().y;
+		float radians = root.getAngle() * degreesToRadians;
+		float cos = (float)Math.cos(radians);
+		float sin = (float)Math.sin(radians);
+
+		float m00 = scaleX * cos, m01 = -scaleY * sin;
+		float m10 = scaleX * sin, m11 = scaleY * cos;
+
+		float centerX = root.getPosition().x, centerY = root.getPosition().y;
+		float extentX, extentY;
+
+		if(abs(scaleX) == abs(scaleY))
+		{
+			//parts of a root scaled uniformly are transformed by the affine transform of the root
+			float halfWidth = (maxX - minX) / 2f, halfHeight = (maxY - minY) / 2f;
+			float localX = minX + halfWidth, localY = minY + halfHeight;
+
+			centerX += m00 * localX + m01 * localY;
+			centerY += m10 * localX + m11 * localY;
+			extentX = abs(m00) * halfWidth + abs(m01) * halfHeight;
+			extentY = abs(m10) * halfWidth + abs(m11) * halfHeight;
+		}
+		else
+		{
+			//otherwise each part is scaled along its own axes, only its distance to the root is bounded
+			extentX = extentY = max(abs(scaleX), abs(scaleY)) * reach;
+		}
+
+		return centerX + extentX >= view.x
+				&& centerX - extentX <= view.x + view.width
+				&& centerY + extentY >= view.y
+				&& centerY - extentY <= view.y + view.height;
+	}
+
+	/**
+	 * Sets the specified rectangle to the box around every sprite, relative to the root
+	 *
+	 * @param bounds rectangle to set
+	 * @return false if the bounds are unknown or empty, otherwise true
+	 */
+	public boolean getBounds(Rectangle bounds)
+	{
+		if(!bounded || isEmpty())
+			return false;
+
+		bounds.set(minX, minY, maxX - minX, maxY - minY);
+		return true;
+	}
+
+	/**
+	 * @return upper bound of the distance from the root to anything drawn, per unit of root scale
+	 */
+	public float getReach()
+	{
+		return reach;
+	}
+
+	/**
+	 * @return true if the bounds are known, false if a drawable could not tell its bounds
+	 */
+	public boolean isBounded()
+	{
+		return bounded;
+	}
+
+	/**
+	 * @return true if the animation draws nothing
+	 */
+	public boolean isEmpty()
+	{
+		return minX > maxX;
+	}
+}
@@ -0,0 +1,146 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Immutable data of an {@link Animation}: its {@link Mainline}, {@link Timeline}s and their keys. An AnimationData is
+ * shared between every {@link Animation} playing it and must not be modified once it is used. On creation, the
+ * {@link ObjectRef}s of the mainline are resolved to the timeline segments they tween on.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationData
+{
+	private final String name;
+	private final int length; // millis
+	private final boolean looping;
+
+	private final Mainline mainline;
+	private final Array<Timeline> timelines;
+
+	private final int[] drawOrder; //ids of sprite timelines sorted by z-index
+
+	private final Array<BakedAnimation> baked = new Array<>(); //lazily baked samples, one per set of parameters
+	private final FloatArray bakeParameters = new FloatArray(); //min and max sample rates and max error of each
+	private final AnimationBounds bounds;
+
+	public AnimationData(String name, int length, boolean looping, Mainline mainline, Array<Timeline> timelines)
+	{
+		this.name = name;
+
+		this.length = length;
+		this.looping = looping;
+
+		this.mainline = mainline;
+		this.timelines = timelines;
+
+		for(MainlineKey key : mainline.getKeys())
+			for(ObjectRef ref : key.objectRefs)
+				ref.resolve(timelines.get(ref.timeline), length);
+
+		int sprites = 0;
+
+		for(Timeline timeline : timelines)
+			if(timeline instanceof SpriteTimeline)
+				sprites++;
+
+		drawOrder = new int[sprites];
+		sprites = 0;
+
+		for(Timeline timeline : timelines)
+		{
+			if(!(timeline instanceof SpriteTimeline))
+				continue;
+
+			int zIndex = ((SpriteTimeline)timeline).getZIndex();
+			int i = sprites++;
+
+			//insertion sort, stable for equal z-indexes
+			while(i > 0 && ((SpriteTimeline)timelines.get(drawOrder[i - 1])).getZIndex() > zIndex)
+			{
+				drawOrder[i] = drawOrder[i - 1];
+				i--;
+			}
+
+			drawOrder[i] = timeline.getId();
+		}
+
+		bounds = new AnimationBounds(this);
+	}
+
+	/**
+	 * Returns the samples baked from this animation with the specified parameters, baking them on the first call with
+	 * these parameters. Later calls with the same parameters return the same samples.
+	 *
+	 * @param minSampleRate amount of samples per second to start from
+	 * @param maxSampleRate maximum amount of samples per second
+	 * @param maxError maximum distance between a baked and a tweened position, in world units
+	 * @return the baked animation
+	 * @see BakedAnimation#bake(AnimationData, float, float, float)
+	 */
+	public synchronized BakedAnimation getBaked(float minSampleRate, float maxSampleRate, float maxError)
+	{
+		for(int i = 0; i < baked.size; i++)
+			if(bakeParameters.get(i * 3) == minSampleRate
+					&& bakeParameters.get(i * 3 + 1) == maxSampleRate
+					&& bakeParameters.get(i * 3 + 2) == maxError)
+				return baked.get(i);
+
+		BakedAnimation samples = BakedAnimation.bake(this, minSampleRate, maxSampleRate, maxError);
+		baked.add(samples);
+		bakeParameters.addAll(minSampleRate, maxSampleRate, maxError);
+		return samples;
+	}
+
+	/**
+	 * Returns the local bounds of this animation, computed on creation from its keys
+	 *
+	 * @return the bounds of this animation
+	 */
+	public AnimationBounds getBounds()
+	{
+		return bounds;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * @return length of the animation in milliseconds
+	 */
+	public int getLength()
+	{
+		return length;
+	}
+
+	/**
+	 * @return true if animations playing this data loop by default, otherwise false
+	 */
+	public boolean isLooping()
+	{
+		return looping;
+	}
+
+	public Mainline getMainline()
+	{
+		return mainline;
+	}
+
+	public Array<Timeline> getTimelines()
+	{
+		return timelines;
+	}
+
+	/**
+	 * @return ids of the sprite timelines sorted by z-index, in the order they are drawn
+	 */
+	public int[] getDrawOrder()
+	{
+		return drawOrder;
+	}
+}
@@ -0,0 +1,302 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds many live {@link Animation}s, updating them in parallel chunks on an {@link Executor} and drawing them in
+ * registration order on the rendering thread.
+ * <p>
+ * Every animation is updated by a single thread, from its own state and the immutable {@link AnimationData} it plays,
+ * so the result of an update does not depend on how the chunks are scheduled. Transformations of the animations are
+ * called from the executor's threads and must not share mutable state. Animations must not be added or removed while
+ * updating.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationSystem
+{
+	public static final int DEFAULT_CHUNK_SIZE = 64;
+
+	private final Array<Animation> animations = new Array<>();
+
+	private final Executor executor;
+	private final int chunkSize;
+
+	private final Array<Chunk> chunks = new Array<>();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	private volatile float delta;
+
+	private final Object lock = new Object(); //reused every update rather than allocating a latch
+	private int pending; //amount of chunks not done updating, guarded by the lock
+
+	/**
+	 * Creates an AnimationSystem updating on the common {@link ForkJoinPool}
+	 */
+	public AnimationSystem()
+	{
+		this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates an AnimationSystem updating on the specified executor
+	 *
+	 * @param executor executor to run the chunks on
+	 * @param chunkSize amount of animations updated by a single task
+	 */
+	public AnimationSystem(Executor executor, int chunkSize)
+	{
+		if(chunkSize <= 0)
+			throw new IllegalArgumentException("Chunk size must be positive, got " + chunkSize);
+
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+	}
+
+	public void add(Animation animation)
+	{
+		animations.add(animation);
+	}
+
+	public boolean remove(Animation animation)
+	{
+		return animations.removeValue(animation, true);
+	}
+
+	public void clear()
+	{
+		animations.clear();
+	}
+
+	/**
+	 * Updates every animation of this system, the calling thread updating the first chunk and any other chunk the
+	 * executor has not started yet. Returns once all of them are updated. Can be called from a thread of the executor.
+	 *
+	 * @param delta time in milliseconds
+	 */
+	public void update(float delta)
+	{
+		int count = (animations.size + chunkSize - 1) / chunkSize;
+
+		if(count <= 1)
+		{
+			for(int i = 0; i < animations.size; i++)
+				animations.get(i).update(delta);
+			return;
+		}
+
+		while(chunks.size < count)
+			chunks.add(new Chunk());
+
+		for(int i = 0; i < count; i++)
+		{
+			Chunk chunk = chunks.get(i);
+			chunk.start = i * chunkSize;
+			chunk.end = Math.min(chunk.start + chunkSize, animations.size);
+		}
+
+		this.delta = delta;
+
+		synchronized(lock)
+		{
+			pending = count;
+		}
+
+		for(int i = 0; i < count; i++)
+			chunks.get(i).claimed.set(false); //publishes the range and delta to the thread claiming the chunk
+
+		for(int i = 1; i < count; i++)
+			submit(chunks.get(i));
+
+		//runs the chunks the executor has not started, so that updating never waits on queued chunks, which could never
+		//run if this thread is one of the executor's own
+		for(int i = 0; i < count; i++)
+			chunks.get(i).update();
+
+		//only waits for chunks running on other threads
+		boolean interrupted = false;
+
+		synchronized(lock)
+		{
+			while(pending > 0)
+			{
+				try
+				{
+					lock.wait();
+				}
+				catch(InterruptedException ex)
+				{
+					interrupted = true;
+				}
+			}
+		}
+
+		if(interrupted)
+			Thread.currentThread().interrupt();
+
+		Throwable throwable = failure.getAndSet(null);
+
+		if(throwable != null)
+			throw new GdxRuntimeException("Failed to update animations", throwable);
+	}
+
+	/**
+	 * Submits the specified chunk to the executor, unless it is still queued or running from a previous update. That
+	 * previous submission then claims the chunk again when it runs, and a task is never reinitialized before it is
+	 * done.
+	 *
+	 * @param chunk chunk to submit
+	 */
+	private void submit(Chunk chunk)
+	{
+		if(executor instanceof ForkJoinPool)
+		{
+			if(!chunk.isDone())
+				return;
+
+			chunk.reinitialize();
+
+			try
+			{
+				((ForkJoinPool)executor).execute((ForkJoinTask<?>)chunk);
+			}
+			catch(RejectedExecutionException ex)
+			{
+				chunk.complete(null); //run by the calling thread, submitted again next update
+			}
+		}
+		else if(chunk.queued.compareAndSet(false, true))
+		{
+			try
+			{
+				executor.execute(chunk);
+			}
+			catch(RejectedExecutionException ex)
+			{
+				chunk.queued.set(false); //run by the calling thread, submitted again next update
+			}
+		}
+	}
+
+	/**
+	 * Draws every animation of this system, in the order they were added. Must be called on the rendering thread.
+	 *
+	 * @param batch batch to draw with
+	 */
+	public void draw(Batch batch)
+	{
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).draw(batch);
+	}
+
+	/**
+	 * Draws the animations of this system which can be seen in the specified view, in the order they were added,
+	 * skipping the sprites outside of it. Must be called on the rendering thread.
+	 *
+	 * @param batch batch to draw with
+	 * @param view view to draw in, in world coordinates
+	 */
+	public void draw(Batch batch, Rectangle view)
+	{
+		for(int i = 0; i < animations.size; i++)
+		{
+			Animation animation = animations.get(i);
+
+			if(animation.isVisible(view))
+				animation.draw(batch, view);
+		}
+	}
+
+	public Array<Animation> getAnimations()
+	{
+		return animations;
+	}
+
+	public int getChunkSize()
+	{
+		return chunkSize;
+	}
+
+	/**
+	 * Range of animations updated by a single task, run by whichever thread claims it first. Being a {@link
+	 * ForkJoinTask}, a {@link ForkJoinPool} runs it without wrapping it in a new task on every update. Other executors
+	 * run it as a {@link Runnable}.
+	 */
+	private class Chunk extends ForkJoinTask<Void> implements Runnable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private int start, end;
+		private final AtomicBoolean claimed = new AtomicBoolean(true);
+		private final AtomicBoolean queued = new AtomicBoolean(); //submitted to an executor other than a ForkJoinPool
+
+		public Chunk()
+		{
+			complete(null); //done until first submitted to a ForkJoinPool
+		}
+
+		/**
+		 * Updates the animations of this chunk, unless another thread claimed it first
+		 */
+		public void update()
+		{
+			if(!claimed.compareAndSet(false, true))
+				return;
+
+			try
+			{
+				float delta = AnimationSystem.this.delta;
+
+				for(int i = start; i < end; i++)
+					animations.get(i).update(delta);
+			}
+			catch(Throwable throwable)
+			{
+				failure.compareAndSet(null, throwable);
+			}
+			finally
+			{
+				synchronized(lock)
+				{
+					if(--pending == 0)
+						lock.notifyAll();
+				}
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			queued.set(false);
+			update();
+		}
+
+		@Override
+		protected boolean exec()
+		{
+			update();
+			return true;
+		}
+
+		@Override
+		public Void getRawResult()
+		{
+			return null;
+		}
+
+		@Override
+		protected void setRawResult(Void value) {}
+	}
+}
@@ -0,0 +1,327 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static me.winter.gdx.animation.math.Interpolator.linear;
+import static me.winter.gdx.animation.math.Interpolator.linearAngle;
+
+/**
+ * {@link AnimationData} pre-sampled at a fixed rate. Each sample holds the local position, scale, angle and alpha of
+ * every part in flat float arrays, so that playing it back is a single linear interpolation between two samples per
+ * channel, without evaluating curves. Meant for crowds and background animations that do not need exact tweening.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class BakedAnimation
+{
+	private static final int X = 0, Y = 1, SCALE_X = 2, SCALE_Y = 3, ANGLE = 4, ALPHA = 5, CHANNELS = 6;
+
+	private final AnimationData data;
+	private final boolean looping;
+	private final float sampleRate; //samples per second
+	private final int samples, parts;
+
+	private final float[] channels; //indexed by sample, then part, then channel
+	private final int[] keys; //timeline key of each part per sample, -1 when not in the mainline key
+	private final int[] mainlineKeys; //mainline key of each sample
+
+	private float positionError, angleError;
+
+	private BakedAnimation(AnimationData data, float sampleRate)
+	{
+		this.data = data;
+		this.looping = data.isLooping();
+		this.sampleRate = sampleRate;
+		this.samples = (int)Math.ceil(data.getLength() * (double)sampleRate / 1000.0) + 1;
+		this.parts = data.getTimelines().size;
+
+		channels = new float[samples * parts * CHANNELS];
+		keys = new int[samples * parts];
+		mainlineKeys = new int[samples];
+
+		Arrays.fill(keys, -1);
+
+		Animation animation = new Animation(data);
+		Pose pose = animation.getPose();
+		Mainline mainline = data.getMainline();
+
+		for(int sample = 0; sample < samples; sample++)
+		{
+			int time = Math.round(getSampleTime(sample));
+
+			mainlineKeys[sample] = mainline.getKeyIndexBeforeTime(time, looping);
+			MainlineKey currentKey = mainline.getKeys().get(mainlineKeys[sample]);
+
+			for(int i = 0; i < currentKey.objectRefs.size; i++)
+			{
+				ObjectRef ref = currentKey.objectRefs.get(i);
+				int index = ref.timeline;
+				int offset = (sample * parts + index) * CHANNELS;
+
+				animation.tween(currentKey, ref, time);
+
+				channels[offset + X] = pose.x[index];
+				channels[offset + Y] = pose.y[index];
+				channels[offset + SCALE_X] = pose.scaleX[index];
+				channels[offset + SCALE_Y] = pose.scaleY[index];
+				channels[offset + ANGLE] = pose.angle[index];
+				channels[offset + ALPHA] = pose.alpha[index];
+				keys[sample * parts + index] = ref.key;
+			}
+		}
+	}
+
+	/**
+	 * Bakes the specified animation at a fixed sample rate
+	 *
+	 * @param data animation to bake
+	 * @param sampleRate amount of samples per second
+	 * @return the baked animation
+	 */
+	public static BakedAnimation bake(AnimationData data, float sampleRate)
+	{
+		if(sampleRate <= 0f)
+			throw new IllegalArgumentException("Sample rate must be positive, got " + sampleRate);
+
+		BakedAnimation baked = new BakedAnimation(data, sampleRate);
+		baked.measureError();
+		return baked;
+	}
+
+	/**
+	 * Bakes the specified animation at the lowest sample rate, doubled from the minimum, for which the position error
+	 * is not greater than the maximum error, without going over the maximum sample rate.
+	 *
+	 * @param data animation to bake
+	 * @param minSampleRate amount of samples per second to start from
+	 * @param maxSampleRate maximum amount of samples per second
+	 * @param maxError maximum distance between a baked and a tweened position, in world units
+	 * @return the baked animation
+	 */
+	public static BakedAnimation bake(AnimationData data, float minSampleRate, float maxSampleRate, float maxError)
+	{
+		BakedAnimation baked = bake(data, minSampleRate);
+
+		while(baked.positionError > maxError && baked.sampleRate * 2f <= maxSampleRate)
+			baked = bake(data, baked.sampleRate * 2f);
+
+		return baked;
+	}
+
+	/**
+	 * Builds a report of the memory used and error made when baking the specified animation at different sample rates
+	 *
+	 * @param data animation to bake
+	 * @param sampleRates sample rates to compare
+	 * @return one line per sample rate, as given by {@link #getReport()}
+	 */
+	public static String report(AnimationData data, float... sampleRates)
+	{
+		StringBuilder report = new StringBuilder();
+
+		for(float sampleRate : sampleRates)
+			report.append(bake(data, sampleRate).getReport()).append('\n');
+
+		return report.toString();
+	}
+
+	/**
+	 * Compares, in the middle of each pair of samples, the world pose played from the samples with the tweened one
+	 */
+	private void measureError()
+	{
+		Animation exact = new Animation(data);
+		Animation approximated = new Animation(data);
+		approximated.setBaked(this);
+
+		Mainline mainline = data.getMainline();
+
+		for(int sample = 0; sample + 1 < samples; sample++)
+		{
+			int time = Math.round((getSampleTime(sample) + getSampleTime(sample + 1)) / 2f);
+
+			exact.setTime(time);
+			exact.update(0f);
+			approximated.setTime(time);
+			approximated.update(0f);
+
+			Array<ObjectRef> refs = mainline.getKeyBeforeTime(time, looping).objectRefs;
+
+			for(int i = 0; i < refs.size; i++)
+			{
+				int index = refs.get(i).timeline;
+				Pose a = exact.getPose(), b = approximated.getPose();
+
+				float dx = a.x[index] - b.x[index];
+				float dy = a.y[index] - b.y[index];
+
+				positionError = max(positionError, (float)Math.sqrt(dx * dx + dy * dy));
+				angleError = max(angleError, abs(linearAngle(a.angle[index], b.angle[index], 1f) - a.angle[index]));
+			}
+		}
+	}
+
+	/**
+	 * Writes the local values of the specified part, interpolated between the specified sample and the next one, into
+	 * the pose. Values are held instead when the next sample is on another key, as tweens are not continuous across
+	 * keys (instant curves, parent changes).
+	 *
+	 * @param sample index of the sample
+	 * @param weight the weight which lies between 0.0 and 1.0
+	 * @param index index of the part
+	 * @param pose pose to write into
+	 */
+	public void sample(int sample, float weight, int index, Pose pose)
+	{
+		int from = (sample * parts + index) * CHANNELS;
+
+		if(weight == 0f
+				|| keys[(sample + 1) * parts + index] != keys[sample * parts + index]
+				|| mainlineKeys[sample + 1] != mainlineKeys[sample])
+		{
+			pose.x[index] = channels[from + X];
+			pose.y[index] = channels[from + Y];
+			pose.scaleX[index] = channels[from + SCALE_X];
+			pose.scaleY[index] = channels[from + SCALE_Y];
+			pose.angle[index] = channels[from + ANGLE];
+			pose.alpha[index] = channels[from + ALPHA];
+			return;
+		}
+
+		int to = from + parts * CHANNELS;
+
+		pose.x[index] = linear(channels[from + X], channels[to + X], weight);
+		pose.y[index] = linear(channels[from + Y], channels[to + Y], weight);
+		pose.scaleX[index] = linear(channels[from + SCALE_X], channels[to + SCALE_X], weight);
+		pose.scaleY[index] = linear(channels[from + SCALE_Y], channels[to + SCALE_Y], weight);
+		pose.angle[index] = linearAngle(channels[from + ANGLE], channels[to + ANGLE], weight);
+		pose.alpha[index] = linear(channels[from + ALPHA], channels[to + ALPHA], weight);
+	}
+
+	/**
+	 * @param time time in milliseconds
+	 * @return index of the last sample at or before the specified time
+	 */
+	public int getSampleBefore(float time)
+	{
+		return max(0, min((int)(time * sampleRate / 1000f), samples - 1));
+	}
+
+	/**
+	 * @param sample index of the sample
+	 * @param time time in milliseconds
+	 * @return the weight of the next sample at the specified time
+	 */
+	public float getWeight(int sample, float time)
+	{
+		if(sample + 1 >= samples)
+			return 0f;
+
+		float start = getSampleTime(sample);
+		float duration = getSampleTime(sample + 1) - start;
+
+		if(duration <= 0f)
+			return 0f;
+
+		return max(0f, min((time - start) / duration, 1f));
+	}
+
+	/**
+	 * @param sample index of the sample
+	 * @return time of the sample in milliseconds
+	 */
+	public float getSampleTime(int sample)
+	{
+		return min(sample * 1000f / sampleRate, data.getLength());
+	}
+
+	/**
+	 * @param sample index of the sample
+	 * @return index of the mainline key at the specified sample
+	 */
+	public int getMainlineKey(int sample)
+	{
+		return mainlineKeys[sample];
+	}
+
+	/**
+	 * @param sample index of the sample
+	 * @param index index of the part
+	 * @return index of the timeline key of the part at the specified sample, -1 if the part is not referenced
+	 */
+	public int getKey(int sample, int index)
+	{
+		return keys[sample * parts + index];
+	}
+
+	/**
+	 * @return amount of bytes used by the samples
+	 */
+	public int getMemoryUsage()
+	{
+		return channels.length * 4 + keys.length * 4 + mainlineKeys.length * 4;
+	}
+
+	/**
+	 * @return summary of the sample rate, memory used and error made
+	 */
+	public String getReport()
+	{
+		return String.format(Locale.ENGLISH,
+				"%s: %.1f samples/s, %d samples, %d parts, %d bytes, max position error %.4f, max angle error %.4f",
+				data.getName(),
+				sampleRate,
+				samples,
+				parts,
+				getMemoryUsage(),
+				positionError,
+				angleError);
+	}
+
+	public AnimationData getData()
+	{
+		return data;
+	}
+
+	/**
+	 * @return true if the animation was baked looping, otherwise false
+	 */
+	public boolean isLooping()
+	{
+		return looping;
+	}
+
+	public float getSampleRate()
+	{
+		return sampleRate;
+	}
+
+	public int getSampleCount()
+	{
+		return samples;
+	}
+
+	/**
+	 * @return maximum distance measured between a baked and a tweened position, in world units
+	 */
+	public float getPositionError()
+	{
+		return positionError;
+	}
+
+	/**
+	 * @return maximum difference measured between a baked and a tweened angle, in degrees
+	 */
+	public float getAngleError()
+	{
+		return angleError;
+	}
+}
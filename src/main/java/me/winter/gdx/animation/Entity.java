@@ -29,6 +29,21 @@ public class Entity
 		this.animations = animations;
 	}
 
+	/**
+	 * Spawns an instance of the specified entity data. The animation data is shared, only the state of each
+	 * animation is created.
+	 *
+	 * @param data data of the entity
+	 */
+	public Entity(EntityData data)
+	{
+		this.name = data.getName();
+		this.animations = new Array<>(data.getAnimations().size);
+
+		for(AnimationData animation : data.getAnimations())
+			animations.add(new Animation(animation));
+	}
+
 	public Entity(Entity entity)
 	{
 		this.name = entity.name;
@@ -45,16 +60,16 @@ public class Entity
 		for(Animation animation : animations)
 			for(Timeline timeline : animation.getTimelines())
 				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
-							drawables.add(((Sprite)key.getObject()).getDrawable());
+					for(int i = 0; i < timeline.getKeys().size; i++)
+						if(timeline.getKeys().get(i).getObject() instanceof Sprite)
+							drawables.add(animation.getSpriteDrawable(timeline.getId(), i));
 
 		return drawables;
 	}
 
 	/**
 	 * Set the drawable of the name specified sprite in all animations for all
-	 * timelines
+	 * timelines of this entity
 	 * @param name name of the sprite
 	 * @param drawable drawable to set
 	 */
@@ -63,9 +78,9 @@ public class Entity
 		for(Animation animation : animations)
 			for(Timeline timeline : animation.getTimelines())
 				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
-							((Sprite)key.getObject()).setDrawable(drawable);
+					for(int i = 0; i < timeline.getKeys().size; i++)
+						if(timeline.getKeys().get(i).getObject() instanceof Sprite)
+							animation.setSpriteDrawable(timeline.getId(), i, drawable);
 	}
 
 	public void tintSprite(String name, Color color)
@@ -73,15 +88,15 @@ public class Entity
 		for(Animation animation : animations)
 			for(Timeline timeline : animation.getTimelines())
 				if(timeline.getName().equals(name))
-					for(TimelineKey key : timeline.getKeys())
-						if(key.getObject() instanceof Sprite)
+					for(int i = 0; i < timeline.getKeys().size; i++)
+						if(timeline.getKeys().get(i).getObject() instanceof Sprite)
 						{
-							Sprite sprite = (Sprite)key.getObject();
+							SpriteDrawable drawable = animation.getSpriteDrawable(timeline.getId(), i);
 
-							if(!(sprite.getDrawable() instanceof TintedSpriteDrawable))
-								sprite.setDrawable(new TintedSpriteDrawable(((Sprite)key.getObject()).getDrawable(), color));
+							if(!(drawable instanceof TintedSpriteDrawable))
+								animation.setSpriteDrawable(timeline.getId(), i, new TintedSpriteDrawable(drawable, color));
 							else
-								((TintedSpriteDrawable)sprite.getDrawable()).setColor(color);
+								((TintedSpriteDrawable)drawable).setColor(color);
 						}
 	}
 
@@ -106,6 +121,25 @@ public class Entity
 			animation.setAlpha(alpha);
 	}
 
+	/**
+	 * Makes every animation of this entity play samples baked from its data, baking them if not done yet
+	 *
+	 * @param minSampleRate amount of samples per second to start from
+	 * @param maxSampleRate maximum amount of samples per second
+	 * @param maxError maximum distance between a baked and a tweened position, in world units
+	 */
+	public void bake(float minSampleRate, float maxSampleRate, float maxError)
+	{
+		for(Animation animation : animations)
+			animation.setBaked(animation.getData().getBaked(minSampleRate, maxSampleRate, maxError));
+	}
+
+	public void clearBaked()
+	{
+		for(Animation animation : animations)
+			animation.setBaked(null);
+	}
+
 	/**
 	 * Returns an Animation for the specified index
 	 *
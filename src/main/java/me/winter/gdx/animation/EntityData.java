@@ -0,0 +1,53 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Immutable data of an {@link Entity}, shared between every instance of it. Use {@link Entity#Entity(EntityData)} to
+ * spawn an instance.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class EntityData
+{
+	private final String name;
+	private final Array<AnimationData> animations;
+
+	public EntityData(String name)
+	{
+		this(name, new Array<>());
+	}
+
+	public EntityData(String name, Array<AnimationData> animations)
+	{
+		this.name = name;
+		this.animations = animations;
+	}
+
+	/**
+	 * Returns the AnimationData for the specified name
+	 *
+	 * @param name name of the animation
+	 * @return data of the animation with the specified name, null if not found
+	 */
+	public AnimationData getAnimation(String name)
+	{
+		for(AnimationData animation : animations)
+			if(animation.getName().equals(name))
+				return animation;
+
+		return null;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public Array<AnimationData> getAnimations()
+	{
+		return animations;
+	}
+}
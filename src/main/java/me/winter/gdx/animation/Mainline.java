@@ -36,21 +36,83 @@ public class Mainline
 	 */
 	public MainlineKey getKeyBeforeTime(int time, boolean wrapAround)
 	{
-		MainlineKey found = wrapAround ? keys.get(keys.size - 1) : keys.get(0);
+		return keys.get(getKeyIndexBeforeTime(time, wrapAround));
+	}
 
-		for(MainlineKey key : keys)
+	/**
+	 * Returns the index of the last previous MainlineKey before specified time, using a binary search
+	 *
+	 * @param time the time a key has to be before
+	 * @param wrapAround true if should wrap around the timeline, otherwise false
+	 *
+	 * @return index of the last previous key before specified time, when not found the last one if wrapping around,
+	 * otherwise the first one
+	 */
+	public int getKeyIndexBeforeTime(int time, boolean wrapAround)
+	{
+		int low = 0;
+		int high = keys.size - 1;
+
+		while(low <= high)
 		{
-			if(key.time > time)
-				break;
-			found = key;
+			int middle = (low + high) >>> 1;
+
+			if(keys.get(middle).time > time)
+				high = middle - 1;
+			else
+				low = middle + 1;
 		}
 
-		return found;
+		if(high == -1)
+			return wrapAround ? keys.size - 1 : 0;
+
+		return high;
+	}
+
+	/**
+	 * Returns the index of the last previous MainlineKey before specified time, starting from the index found by a
+	 * previous lookup. Small forward or backward steps, including the wrap around of a looping animation, are resolved
+	 * without searching.
+	 *
+	 * @param time the time a key has to be before
+	 * @param wrapAround true if should wrap around the timeline, otherwise false
+	 * @param cursor index returned by the previous lookup
+	 *
+	 * @return index of the last previous key before specified time, when not found the last one if wrapping around,
+	 * otherwise the first one
+	 */
+	public int getKeyIndexBeforeTime(int time, boolean wrapAround, int cursor)
+	{
+		if(cursor < 0 || cursor >= keys.size)
+			return getKeyIndexBeforeTime(time, wrapAround);
+
+		if(isLastKeyBefore(cursor, time))
+			return cursor;
+
+		int next = cursor + 1 == keys.size ? 0 : cursor + 1;
+
+		if(isLastKeyBefore(next, time))
+			return next;
+
+		int previous = cursor == 0 ? keys.size - 1 : cursor - 1;
+
+		if(isLastKeyBefore(previous, time))
+			return previous;
+
+		return getKeyIndexBeforeTime(time, wrapAround);
+	}
+
+	private boolean isLastKeyBefore(int index, int time)
+	{
+		return keys.get(index).time <= time && (index + 1 == keys.size || keys.get(index + 1).time > time);
 	}
 
 	public MainlineKey next(MainlineKey previous, boolean wrapAround)
 	{
-		int index = keys.indexOf(previous, true);
+		int index = getKeyIndexBeforeTime(previous.time, false);
+
+		if(keys.get(index) != previous)
+			index = keys.indexOf(previous, true);
 
 		if(index + 1 == keys.size)
 			return wrapAround ? keys.get(0) : keys.get(keys.size - 1);
@@ -1,10 +1,15 @@
 package me.winter.gdx.animation;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IdentityMap;
 
 /**
  * Represents a bone reference in a Spriter SCML file. A bone reference holds a {@link #timeline} and a
  * {@link #key}. A bone reference may have a parent reference.
+ * <p>
+ * Once resolved by its {@link AnimationData}, a reference also holds the segment to tween on: the key it points to,
+ * the key after it, the time of the start of the segment, the inverse of its duration and whether it wraps around
+ * the end of the animation.
  *
  * @author Alexander Winter
  */
@@ -13,6 +18,11 @@ public class ObjectRef
 	public final int key, timeline;
 	public final ObjectRef parent;
 
+	private TimelineKey startKey, endKey;
+	private int startTime;
+	private float inverseDuration;
+	private boolean wrapping;
+
 	public ObjectRef(int timeline, int key, ObjectRef parent)
 	{
 		this.timeline = timeline;
@@ -29,6 +39,42 @@ public class ObjectRef
 			this.parent = other.parent.clone(graphIsomorphism);
 		else
 			this.parent = null;
+
+		this.startKey = other.startKey;
+		this.endKey = other.endKey;
+		this.startTime = other.startTime;
+		this.inverseDuration = other.inverseDuration;
+		this.wrapping = other.wrapping;
+	}
+
+	/**
+	 * Resolves the segment of the timeline this reference tweens on
+	 *
+	 * @param timeline timeline this reference points to
+	 * @param length length of the animation in milliseconds
+	 */
+	void resolve(Timeline timeline, int length)
+	{
+		Array<TimelineKey> keys = timeline.getKeys();
+
+		startKey = keys.get(key);
+		startTime = startKey.getTime();
+		wrapping = key + 1 == keys.size;
+
+		int timeOfNext;
+
+		if(wrapping)
+		{
+			endKey = keys.get(0);
+			timeOfNext = endKey.getTime() + length; //wrap around
+		}
+		else
+		{
+			endKey = keys.get(key + 1);
+			timeOfNext = endKey.getTime();
+		}
+
+		inverseDuration = 1f / (timeOfNext - startTime);
 	}
 
 	public ObjectRef clone(IdentityMap<ObjectRef, ObjectRef> graphIsomorphism)
@@ -40,4 +86,41 @@ public class ObjectRef
 		graphIsomorphism.put(this, ref);
 		return ref;
 	}
+
+	/**
+	 * @return key this reference points to
+	 */
+	public TimelineKey getStartKey()
+	{
+		return startKey;
+	}
+
+	/**
+	 * @return key following the one this reference points to, the first one of the timeline when wrapping
+	 */
+	public TimelineKey getEndKey()
+	{
+		return endKey;
+	}
+
+	public int getStartTime()
+	{
+		return startTime;
+	}
+
+	/**
+	 * @return 1 divided by the time between the start and end keys in milliseconds
+	 */
+	public float getInverseDuration()
+	{
+		return inverseDuration;
+	}
+
+	/**
+	 * @return true if the start key is the last one of its timeline, otherwise false
+	 */
+	public boolean isWrapping()
+	{
+		return wrapping;
+	}
 }
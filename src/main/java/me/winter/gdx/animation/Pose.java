@@ -0,0 +1,233 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+
+import static com.badlogic.gdx.math.MathUtils.degreesToRadians;
+import static java.lang.Math.signum;
+import static me.winter.gdx.animation.math.Interpolator.linear;
+import static me.winter.gdx.animation.math.Interpolator.linearAngle;
+
+/**
+ * Pose of an {@link Animation} stored as parallel primitive arrays indexed by timeline id. Every part of the animation
+ * has an entry in each array, and an additional entry at {@link #getRootIndex()} holds the root transform.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class Pose
+{
+	private final int size;
+
+	public final float[] x, y, scaleX, scaleY, angle, alpha;
+	public final SpriteDrawable[] drawable;
+
+	/**
+	 * Linear part of the world transform of each part, as in {@link Affine2}. The translation is {@link #x} and {@link
+	 * #y}. Valid once the part is unmapped.
+	 */
+	public final float[] m00, m01, m10, m11;
+
+	/**
+	 * Creates a pose for the specified amount of parts
+	 *
+	 * @param size amount of parts, root excluded
+	 */
+	public Pose(int size)
+	{
+		this.size = size;
+
+		x = new float[size + 1];
+		y = new float[size + 1];
+		scaleX = new float[size + 1];
+		scaleY = new float[size + 1];
+		angle = new float[size + 1];
+		alpha = new float[size + 1];
+		drawable = new SpriteDrawable[size + 1];
+		m00 = new float[size + 1];
+		m01 = new float[size + 1];
+		m10 = new float[size + 1];
+		m11 = new float[size + 1];
+
+		for(int i = 0; i <= size; i++)
+		{
+			scaleX[i] = 1f;
+			scaleY[i] = 1f;
+			alpha[i] = 1f;
+			m00[i] = 1f;
+			m11[i] = 1f;
+		}
+	}
+
+	/**
+	 * Sets the values of the part at the specified index to the values of the given object
+	 *
+	 * @param index index of the part
+	 * @param object the object
+	 */
+	public void set(int index, AnimatedPart object)
+	{
+		x[index] = object.getPosition().x;
+		y[index] = object.getPosition().y;
+		scaleX[index] = object.getScale().x;
+		scaleY[index] = object.getScale().y;
+		angle[index] = object.getAngle();
+
+		if(object instanceof Sprite)
+		{
+			alpha[index] = ((Sprite)object).getAlpha();
+			drawable[index] = ((Sprite)object).getDrawable();
+		}
+	}
+
+	/**
+	 * Copies the values of the part at the specified index into the given object
+	 *
+	 * @param index index of the part
+	 * @param target the object to write into
+	 */
+	public void get(int index, AnimatedPart target)
+	{
+		target.getPosition().set(x[index], y[index]);
+		target.getScale().set(scaleX[index], scaleY[index]);
+		target.setAngle(angle[index]);
+
+		if(target instanceof Sprite)
+		{
+			((Sprite)target).setAlpha(alpha[index]);
+			((Sprite)target).setDrawable(drawable[index]);
+		}
+	}
+
+	/**
+	 * Tests if the specified local bounds, transformed by the world transform of the part at the specified index,
+	 * overlap the specified view
+	 *
+	 * @param index index of the part
+	 * @param bounds bounds relative to the part, such as the bounds of its drawable
+	 * @param view view to test against, in world coordinates
+	 * @return false if the transformed bounds are outside of the view, otherwise true
+	 */
+	public boolean overlaps(int index, Rectangle bounds, Rectangle view)
+	{
+		float halfWidth = bounds.width / 2f, halfHeight = bounds.height / 2f;
+		float localX = bounds.x + halfWidth, localY = bounds.y + halfHeight;
+
+		float centerX = m00[index] * localX + m01[index] * localY + x[index];
+		float centerY = m10[index] * localX + m11[index] * localY + y[index];
+		float extentX = Math.abs(m00[index]) * halfWidth + Math.abs(m01[index]) * halfHeight;
+		float extentY = Math.abs(m10[index]) * halfWidth + Math.abs(m11[index]) * halfHeight;
+
+		return centerX + extentX >= view.x
+				&& centerX - extentX <= view.x + view.width
+				&& centerY + extentY >= view.y
+				&& centerY - extentY <= view.y + view.height;
+	}
+
+	/**
+	 * Copies every value of the specified pose into this one
+	 *
+	 * @param other pose to copy, of the same size
+	 */
+	public void set(Pose other)
+	{
+		System.arraycopy(other.x, 0, x, 0, x.length);
+		System.arraycopy(other.y, 0, y, 0, y.length);
+		System.arraycopy(other.scaleX, 0, scaleX, 0, scaleX.length);
+		System.arraycopy(other.scaleY, 0, scaleY, 0, scaleY.length);
+		System.arraycopy(other.angle, 0, angle, 0, angle.length);
+		System.arraycopy(other.alpha, 0, alpha, 0, alpha.length);
+		System.arraycopy(other.drawable, 0, drawable, 0, drawable.length);
+		System.arraycopy(other.m00, 0, m00, 0, m00.length);
+		System.arraycopy(other.m01, 0, m01, 0, m01.length);
+		System.arraycopy(other.m10, 0, m10, 0, m10.length);
+		System.arraycopy(other.m11, 0, m11, 0, m11.length);
+	}
+
+	/**
+	 * Sets this pose to the linear interpolation of the specified poses. World transforms are interpolated component
+	 * wise, which is close enough for the small steps between two updates. Drawables are the ones of the end pose.
+	 *
+	 * @param from start pose, of the same size
+	 * @param to end pose, of the same size
+	 * @param t the weight which lies between 0.0 and 1.0
+	 */
+	public void lerp(Pose from, Pose to, float t)
+	{
+		for(int i = 0; i <= size; i++)
+		{
+			x[i] = linear(from.x[i], to.x[i], t);
+			y[i] = linear(from.y[i], to.y[i], t);
+			scaleX[i] = linear(from.scaleX[i], to.scaleX[i], t);
+			scaleY[i] = linear(from.scaleY[i], to.scaleY[i], t);
+			angle[i] = linearAngle(from.angle[i], to.angle[i], t);
+			alpha[i] = linear(from.alpha[i], to.alpha[i], t);
+			drawable[i] = to.drawable[i];
+			m00[i] = linear(from.m00[i], to.m00[i], t);
+			m01[i] = linear(from.m01[i], to.m01[i], t);
+			m10[i] = linear(from.m10[i], to.m10[i], t);
+			m11[i] = linear(from.m11[i], to.m11[i], t);
+		}
+	}
+
+	/**
+	 * Maps the part at the specified index from it's parent's coordinate system to a global one. Same as {@link
+	 * AnimatedPart#unmap(AnimatedPart)} but on the arrays of this pose: the position is transformed by the world
+	 * transform of the parent, then the world transform of the part is updated.
+	 *
+	 * @param index index of the part to unmap
+	 * @param parent index of the parent, {@link #getRootIndex()} for the root
+	 */
+	public void unmap(int index, int parent)
+	{
+		float parentScaleX = scaleX[parent];
+		float parentScaleY = scaleY[parent];
+
+		angle[index] = angle[index] * signum(parentScaleX) * signum(parentScaleY) + angle[parent];
+		scaleX[index] *= parentScaleX;
+		scaleY[index] *= parentScaleY;
+
+		float localX = x[index];
+		float localY = y[index];
+
+		x[index] = m00[parent] * localX + m01[parent] * localY + x[parent];
+		y[index] = m10[parent] * localX + m11[parent] * localY + y[parent];
+
+		updateTransform(index);
+	}
+
+	/**
+	 * Updates the world transform of the part at the specified index from its position, scale and angle
+	 *
+	 * @param index index of the part
+	 */
+	public void updateTransform(int index)
+	{
+		float radians = angle[index] * degreesToRadians;
+		float cos = (float)Math.cos(radians);
+		float sin = (float)Math.sin(radians);
+
+		m00[index] = scaleX[index] * cos;
+		m01[index] = -scaleY[index] * sin;
+		m10[index] = scaleX[index] * sin;
+		m11[index] = scaleY[index] * cos;
+	}
+
+	/**
+	 * @return amount of parts in this pose, root excluded
+	 */
+	public int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * @return index of the root in the arrays of this pose
+	 */
+	public int getRootIndex()
+	{
+		return size;
+	}
+}
@@ -0,0 +1,95 @@
+package me.winter.gdx.animation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer of {@link Pose} snapshots, letting a single thread publish poses while another one reads the last
+ * published pose without locks. Publishing and acquiring only swap an index; the pose read stays untouched until the
+ * reader acquires again.
+ * <p>
+ * When interpolated, each snapshot also holds the pose published before it so that the reader can interpolate between
+ * the two.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class PoseBuffer
+{
+	private static final int INDEX_MASK = 3, FRESH = 4;
+
+	private final Pose[] poses, previous;
+	private final Pose last; //copy of the last published pose, owned by the writer
+	private boolean published = false;
+
+	/**
+	 * Index of the slot in between the writer and the reader, with the FRESH bit set when it was published but not
+	 * yet acquired
+	 */
+	private final AtomicInteger middle = new AtomicInteger(2);
+
+	private int back = 0; //slot owned by the writer
+	private int front = 1; //slot owned by the reader
+
+	/**
+	 * Creates a buffer of poses of the specified size
+	 *
+	 * @param size amount of parts of the poses, root excluded
+	 * @param interpolated true to keep the previous pose in each snapshot, otherwise false
+	 */
+	public PoseBuffer(int size, boolean interpolated)
+	{
+		poses = new Pose[] { new Pose(size), new Pose(size), new Pose(size) };
+		previous = interpolated ? new Pose[] { new Pose(size), new Pose(size), new Pose(size) } : null;
+		last = interpolated ? new Pose(size) : null;
+	}
+
+	/**
+	 * Publishes a copy of the specified pose. Must only be called by the writing thread.
+	 *
+	 * @param pose pose to publish
+	 */
+	public void publish(Pose pose)
+	{
+		poses[back].set(pose);
+
+		if(previous != null)
+		{
+			previous[back].set(published ? last : pose);
+			last.set(pose);
+		}
+
+		published = true;
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Returns the last published pose. The returned pose is not modified until the next call to this method. Must only
+	 * be called by the reading thread.
+	 *
+	 * @return last published pose
+	 */
+	public Pose acquire()
+	{
+		if((middle.get() & FRESH) != 0)
+			front = middle.getAndSet(front) & INDEX_MASK;
+
+		return poses[front];
+	}
+
+	/**
+	 * Returns the pose published before the one last {@link #acquire() acquired}, or the acquired one itself if this
+	 * buffer is not interpolated. Must only be called by the reading thread.
+	 *
+	 * @return pose published before the acquired one
+	 */
+	public Pose getPrevious()
+	{
+		return previous != null ? previous[front] : poses[front];
+	}
+
+	public boolean isInterpolated()
+	{
+		return previous != null;
+	}
+}
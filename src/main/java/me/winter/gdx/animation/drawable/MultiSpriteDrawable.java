@@ -1,6 +1,8 @@
 package me.winter.gdx.animation.drawable;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.gdx.animation.Pose;
 import me.winter.gdx.animation.Sprite;
 
 /**
@@ -13,6 +15,7 @@ import me.winter.gdx.animation.Sprite;
 public class MultiSpriteDrawable implements SpriteDrawable
 {
 	private final SpriteDrawable[] drawables;
+	private final Rectangle drawableBounds = new Rectangle(); //drawing only happens on the rendering thread
 
 	public MultiSpriteDrawable(SpriteDrawable... drawables)
 	{
@@ -25,4 +28,30 @@ public class MultiSpriteDrawable implements SpriteDrawable
 		for(SpriteDrawable drawable : drawables)
 			drawable.draw(sprite, batch);
 	}
+
+	@Override
+	public void draw(Pose pose, int index, Sprite sprite, Batch batch)
+	{
+		for(SpriteDrawable drawable : drawables)
+			drawable.draw(pose, index, sprite, batch);
+	}
+
+	@Override
+	public boolean getBounds(Rectangle bounds)
+	{
+		bounds.set(0f, 0f, 0f, 0f);
+
+		for(int i = 0; i < drawables.length; i++)
+		{
+			if(!drawables[i].getBounds(drawableBounds))
+				return false;
+
+			if(i == 0)
+				bounds.set(drawableBounds);
+			else
+				bounds.merge(drawableBounds);
+		}
+
+		return true;
+	}
 }
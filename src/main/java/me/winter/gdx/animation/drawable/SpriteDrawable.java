@@ -1,6 +1,8 @@
 package me.winter.gdx.animation.drawable;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.gdx.animation.Pose;
 import me.winter.gdx.animation.Sprite;
 
 /**
@@ -13,4 +15,31 @@ import me.winter.gdx.animation.Sprite;
 public interface SpriteDrawable
 {
 	void draw(Sprite sprite, Batch batch);
+
+	/**
+	 * Draws the part at the specified index of a pose. By default the part is copied into the specified sprite which
+	 * is then drawn, drawables able to draw from the world transform of the pose override this to skip the copy.
+	 *
+	 * @param pose pose to draw from
+	 * @param index index of the part in the pose
+	 * @param sprite sprite the part can be copied into, owned by the caller
+	 * @param batch batch to draw with
+	 */
+	default void draw(Pose pose, int index, Sprite sprite, Batch batch)
+	{
+		pose.get(index, sprite);
+		draw(sprite, batch);
+	}
+
+	/**
+	 * Sets the specified rectangle to the area drawn for a sprite at the origin, without scale nor rotation. Drawables
+	 * which cannot tell where they draw return false, which disables culling of the animations using them.
+	 *
+	 * @param bounds rectangle to set
+	 * @return true if the bounds are known, otherwise false
+	 */
+	default boolean getBounds(Rectangle bounds)
+	{
+		return false;
+	}
 }
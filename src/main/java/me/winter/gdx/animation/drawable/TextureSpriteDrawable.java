@@ -3,7 +3,10 @@ package me.winter.gdx.animation.drawable;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import me.winter.gdx.animation.Pose;
 import me.winter.gdx.animation.Sprite;
 
 /**
@@ -17,6 +20,11 @@ public class TextureSpriteDrawable implements SpriteDrawable
 	private final float pivotX, pivotY;
 	private final float width, height;
 
+	/**
+	 * Transform of the quad being drawn, per thread as drawables are shared by every animation of their project
+	 */
+	private static final ThreadLocal<Affine2> QUAD_TRANSFORM = ThreadLocal.withInitial(Affine2::new);
+
 	public TextureSpriteDrawable(TextureRegion region, Vector2 pivot)
 	{
 		this(region, pivot.x, pivot.y);
@@ -78,6 +86,40 @@ public class TextureSpriteDrawable implements SpriteDrawable
 		batch.setPackedColor(prevColor);
 	}
 
+	@Override
+	public void draw(Pose pose, int index, Sprite sprite, Batch batch)
+	{
+		if(region == null || region.getTexture() == null)
+			return;
+
+		float prevColor = batch.getPackedColor();
+
+		Color tmp = batch.getColor();
+		tmp.a *= pose.alpha[index];
+		batch.setColor(tmp);
+
+		//quad corners come straight from the world transform of the part, moved to the pivot
+		Affine2 transform = QUAD_TRANSFORM.get();
+		transform.m00 = pose.m00[index];
+		transform.m01 = pose.m01[index];
+		transform.m02 = pose.x[index];
+		transform.m10 = pose.m10[index];
+		transform.m11 = pose.m11[index];
+		transform.m12 = pose.y[index];
+		transform.translate(-width * pivotX, -height * pivotY);
+
+		batch.draw(region, width, height, transform);
+
+		batch.setPackedColor(prevColor);
+	}
+
+	@Override
+	public boolean getBounds(Rectangle bounds)
+	{
+		bounds.set(-width * pivotX, -height * pivotY, width, height);
+		return true;
+	}
+
 	public TextureRegion getRegion()
 	{
 		return region;
@@ -92,4 +134,14 @@ public class TextureSpriteDrawable implements SpriteDrawable
 	{
 		return pivotY;
 	}
+
+	public float getWidth()
+	{
+		return width;
+	}
+
+	public float getHeight()
+	{
+		return height;
+	}
 }
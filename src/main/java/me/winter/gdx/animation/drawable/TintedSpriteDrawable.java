@@ -2,6 +2,8 @@ package me.winter.gdx.animation.drawable;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.gdx.animation.Pose;
 import me.winter.gdx.animation.Sprite;
 
 /**
@@ -36,8 +38,44 @@ public class TintedSpriteDrawable implements SpriteDrawable
 		batch.setPackedColor(prevColor);
 	}
 
+	@Override
+	public void draw(Pose pose, int index, Sprite sprite, Batch batch)
+	{
+		if(drawable == null)
+			return;
+
+		float prevColor = batch.getPackedColor();
+		batch.setColor(batch.getColor().mul(color));
+
+		drawable.draw(pose, index, sprite, batch);
+
+		batch.setPackedColor(prevColor);
+	}
+
+	@Override
+	public boolean getBounds(Rectangle bounds)
+	{
+		if(drawable == null)
+		{
+			bounds.set(0f, 0f, 0f, 0f);
+			return true;
+		}
+
+		return drawable.getBounds(bounds);
+	}
+
 	public void setColor(Color color)
 	{
 		this.color.set(color);
 	}
+
+	public Color getColor()
+	{
+		return color;
+	}
+
+	public SpriteDrawable getDrawable()
+	{
+		return drawable;
+	}
 }
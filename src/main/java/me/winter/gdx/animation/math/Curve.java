@@ -3,39 +3,78 @@ package me.winter.gdx.animation.math;
 import com.badlogic.gdx.math.Vector2;
 
 import static me.winter.gdx.animation.math.Interpolator.bezier;
-import static me.winter.gdx.animation.math.Interpolator.cubic;
 import static me.winter.gdx.animation.math.Interpolator.linear;
-import static me.winter.gdx.animation.math.Interpolator.quadratic;
-import static me.winter.gdx.animation.math.Interpolator.quartic;
-import static me.winter.gdx.animation.math.Interpolator.quintic;
-import static me.winter.gdx.animation.math.Interpolator.solveCubic;
+import static me.winter.gdx.animation.math.Interpolator.spinAngle;
 
 /**
  * Represents a curve in a Spriter SCML file. An instance of this class is responsible for tweening given data. The most
  * important method of this class is {@link #interpolate(float, float, float)}.
+ * <p>
+ * Curves are immutable and evaluating them has no side effect, they can be shared and used from any thread.
  *
  * @author Alexander Winter
  */
 public class Curve
 {
-	private CurveType type;
+	/**
+	 * Amount of intervals in the table of parameters of {@link CurveType#BEZIER} curves
+	 */
+	public static final int BEZIER_SAMPLES = 64;
+
+	/**
+	 * Maximum amount of iterations refining the parameter looked up in the table of {@link CurveType#BEZIER} curves
+	 */
+	private static final int MAX_ITERATIONS = 12;
 
-	private float lastCubicSolution = 0f;
+	/**
+	 * Error on the x coordinate of a {@link CurveType#BEZIER} curve under which its parameter is considered found
+	 */
+	private static final float EPSILON = 1e-7f;
+
+	private final CurveType type;
+
+	/**
+	 * Coefficients of the polynomial of {@link CurveType#QUADRATIC} to {@link CurveType#QUINTIC} curves, from the
+	 * constant one to the one of the highest degree, null for other types
+	 */
+	private final float[] coefficients;
+
+	/**
+	 * Parameters of a {@link CurveType#BEZIER} curve at evenly spaced weights from 0 to 1, null for other types
+	 */
+	private final float[] parameters;
 
 	/**
 	 * The constraints of a curve which will affect a curve of the types different from {@link CurveType#LINEAR} and {@link
 	 * CurveType#INSTANT}.
 	 */
-	public final Constraints constraints = new Constraints(0, 0, 0, 0);
+	public final Constraints constraints;
 
 	/**
-	 * Creates a new curve with the given type.
+	 * Creates a new curve with the given type, without constraints.
 	 *
 	 * @param type the curve type
 	 */
 	public Curve(CurveType type)
+	{
+		this(type, 0f, 0f, 0f, 0f);
+	}
+
+	/**
+	 * Creates a new curve with the given type and constraints.
+	 *
+	 * @param type the curve type
+	 * @param c1 first constraint
+	 * @param c2 second constraint
+	 * @param c3 third constraint
+	 * @param c4 fourth constraint
+	 */
+	public Curve(CurveType type, float c1, float c2, float c3, float c4)
 	{
 		this.type = type;
+		this.constraints = new Constraints(c1, c2, c3, c4);
+		this.coefficients = createCoefficients(type, c1, c2, c3, c4);
+		this.parameters = type == CurveType.BEZIER ? createParameters(c1, c3) : null;
 	}
 
 	/**
@@ -48,7 +87,8 @@ public class Curve
 	 */
 	public void interpolateVector(Vector2 a, Vector2 b, float value, Vector2 target)
 	{
-		target.set(interpolate(a.x, b.x, value), interpolate(a.y, b.y, value));
+		float weight = ease(value);
+		target.set(linear(a.x, b.x, weight), linear(a.y, b.y, weight));
 	}
 
 	/**
@@ -62,59 +102,310 @@ public class Curve
 	 */
 	public float interpolateAngle(float a, float b, float value, int spin)
 	{
-		if(spin > 0)
+		return spinAngle(a, b, ease(value), spin);
+	}
+
+	public float interpolate(float a, float b, float value)
+	{
+		return linear(a, b, ease(value));
+	}
+
+	/**
+	 * Returns the eased weight of this curve for the given weight. Since every curve type tweens linearly between its
+	 * start and end values once eased, the eased weight can be computed once and applied to every channel of a part
+	 * with {@link Interpolator#linear(float, float, float)} and
+	 * {@link Interpolator#spinAngle(float, float, float, int)}.
+	 *
+	 * @param value the weight which lies between 0.0 and 1.0
+	 * @return the eased weight
+	 */
+	public float ease(float value)
+	{
+		switch(type)
 		{
-			if(b - a < 0)
-				b += 360;
+			case INSTANT:
+				return 0f;
+			case LINEAR:
+				return value;
+			case QUADRATIC:
+			case CUBIC:
+			case QUARTIC:
+			case QUINTIC:
+				return horner(coefficients, value);
+			case BEZIER:
+				return easeBezier(value);
+			default:
+				return value;
 		}
-		else if(spin < 0)
+	}
+
+	/**
+	 * Sets the specified vector to bounds of the weights {@link #ease(float)} returns for weights between the specified
+	 * ones, the lower bound in x and the upper one in y. Within [0, 1], polynomial and bezier curves stay between the
+	 * smallest and largest of 0, 1 and the constraints they go through. Out of it, polynomials are bounded with interval
+	 * arithmetic, which can overestimate.
+	 *
+	 * @param from smallest weight
+	 * @param to largest weight
+	 * @param range vector to set
+	 * @return the specified vector
+	 */
+	public Vector2 getEaseRange(float from, float to, Vector2 range)
+	{
+		switch(type)
 		{
-			if(b - a > 0)
-				b -= 360;
+			case INSTANT:
+				return range.set(0f, 0f);
+			case QUADRATIC:
+			case CUBIC:
+			case QUARTIC:
+			case QUINTIC:
+				if(from < 0f || to > 1f)
+					return hornerRange(coefficients, from, to, range);
+
+				range.set(0f, 1f);
+
+				for(int i = 1; i < coefficients.length - 1; i++)
+				{
+					float constraint = getConstraint(i);
+					range.set(Math.min(range.x, constraint), Math.max(range.y, constraint));
+				}
+
+				return range;
+			case BEZIER: //the weight is clamped, the curve goes from 0 to 1 through c2 and c4
+				return range.set(Math.min(0f, Math.min(constraints.c2, constraints.c4)),
+						Math.max(1f, Math.max(constraints.c2, constraints.c4)));
+			default:
+				return range.set(from, to);
 		}
-		else
-			return a;
+	}
 
-		return interpolate(a, b, value);
+	/**
+	 * @param index index of the constraint, from 1 to 4
+	 * @return the constraint
+	 */
+	private float getConstraint(int index)
+	{
+		switch(index)
+		{
+			case 1:
+				return constraints.c1;
+			case 2:
+				return constraints.c2;
+			case 3:
+				return constraints.c3;
+			default:
+				return constraints.c4;
+		}
 	}
 
-	public float interpolate(float a, float b, float value)
+	/**
+	 * Bounds a polynomial over an interval by evaluating it with Horner's scheme in interval arithmetic
+	 *
+	 * @param coefficients coefficients of the polynomial, from the constant one to the one of the highest degree
+	 * @param from lower bound of the variable
+	 * @param to upper bound of the variable
+	 * @param range vector to set to the lower and upper bounds of the polynomial
+	 * @return the specified vector
+	 */
+	private static Vector2 hornerRange(float[] coefficients, float from, float to, Vector2 range)
+	{
+		float low = coefficients[coefficients.length - 1], high = low;
+
+		for(int i = coefficients.length - 2; i >= 0; i--)
+		{
+			float a = low * from, b = low * to, c = high * from, d = high * to;
+
+			low = Math.min(Math.min(a, b), Math.min(c, d)) + coefficients[i];
+			high = Math.max(Math.max(a, b), Math.max(c, d)) + coefficients[i];
+		}
+
+		return range.set(low, high);
+	}
+
+	/**
+	 * Evaluates a polynomial with Horner's scheme
+	 *
+	 * @param coefficients coefficients of the polynomial, from the constant one to the one of the highest degree
+	 * @param value the variable of the polynomial
+	 * @return the value of the polynomial
+	 */
+	private static float horner(float[] coefficients, float value)
 	{
+		float result = coefficients[coefficients.length - 1];
+
+		for(int i = coefficients.length - 2; i >= 0; i--)
+			result = result * value + coefficients[i];
+
+		return result;
+	}
+
+	/**
+	 * Expands the Bernstein polynomial going from 0 to 1 through the constraints of the specified type, which is
+	 * tweened by {@link Interpolator#quadratic(float, float, float, float)} to
+	 * {@link Interpolator#quintic(float, float, float, float, float, float, float)}, into the power basis.
+	 *
+	 * @return the coefficients of the polynomial, null if the type is not polynomial
+	 */
+	private static float[] createCoefficients(CurveType type, float c1, float c2, float c3, float c4)
+	{
+		double[] points;
+
 		switch(type)
 		{
-			case INSTANT:
-				return a;
-			case LINEAR:
-				return linear(a, b, value);
 			case QUADRATIC:
-				return quadratic(a, linear(a, b, constraints.c1), b, value);
+				points = new double[] { 0.0, c1, 1.0 };
+				break;
 			case CUBIC:
-				return cubic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), b, value);
+				points = new double[] { 0.0, c1, c2, 1.0 };
+				break;
 			case QUARTIC:
-				return quartic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), linear(a, b, constraints.c3), b, value);
+				points = new double[] { 0.0, c1, c2, c3, 1.0 };
+				break;
 			case QUINTIC:
-				return quintic(a, linear(a, b, constraints.c1), linear(a, b, constraints.c2), linear(a, b, constraints.c3), linear(a, b, constraints.c4), b, value);
-			case BEZIER:
-				float cubicSolution = solveCubic(3f * (constraints.c1 - constraints.c3) + 1f, 3f * (constraints.c3 - 2f * constraints.c1), 3f * constraints.c1, -value);
-				if(cubicSolution == -1) //TODO (check if actually happen)
-					cubicSolution = lastCubicSolution;
-				else
-					lastCubicSolution = cubicSolution;
-				return linear(a, b, bezier(cubicSolution, 0f, constraints.c2, constraints.c4, 1f));
+				points = new double[] { 0.0, c1, c2, c3, c4, 1.0 };
+				break;
 			default:
-				return linear(a, b, value);
+				return null;
 		}
+
+		int degree = points.length - 1;
+		float[] coefficients = new float[points.length];
+
+		//a_k = C(n, k) * sum over i <= k of (-1)^(k - i) * C(k, i) * P_i
+		for(int k = 0; k <= degree; k++)
+		{
+			double sum = 0.0;
+
+			for(int i = 0; i <= k; i++)
+				sum += ((k - i) % 2 == 0 ? 1 : -1) * binomial(k, i) * points[i];
+
+			coefficients[k] = (float)(binomial(degree, k) * sum);
+		}
+
+		return coefficients;
+	}
+
+	private static double binomial(int n, int k)
+	{
+		double result = 1.0;
+
+		for(int i = 1; i <= k; i++)
+			result = result * (n - k + i) / i;
+
+		return result;
 	}
 
 	/**
-	 * Sets the type of this curve.
+	 * Eases the given weight with a {@link CurveType#BEZIER} curve. The parameter of the curve for the weight is
+	 * interpolated linearly between the two closest entries of the table, which bracket it, then refined by Newton's
+	 * method on the x coordinate of the curve. Steps leaving the bracket are replaced by bisection, which only happens
+	 * where the curve is nearly vertical. The eased weight is within about 3e-6 of the exact one for any control points
+	 * with x coordinates between 0 and 1, including the degenerate ones, the precision of floats being the limit.
 	 *
-	 * @param type the curve type.
-	 * @throws IllegalArgumentException if the type is <code>null</code>
+	 * @param value the weight, clamped between 0.0 and 1.0
+	 * @return the eased weight
 	 */
-	public void setType(CurveType type)
+	private float easeBezier(float value)
 	{
-		this.type = type;
+		if(value <= 0f)
+			return 0f;
+
+		if(value >= 1f)
+			return 1f;
+
+		float position = value * BEZIER_SAMPLES;
+		int index = (int)position;
+
+		float c1 = constraints.c1, c3 = constraints.c3;
+		float low = parameters[index], high = parameters[index + 1]; //x is monotonic, the parameter lies between them
+		float t = linear(low, high, position - index);
+
+		for(int i = 0; i < MAX_ITERATIONS; i++)
+		{
+			float u = 1f - t;
+			float error = 3f * u * u * t * c1 + 3f * u * t * t * c3 + t * t * t - value;
+
+			if(Math.abs(error) < EPSILON)
+				break;
+
+			if(error < 0f)
+				low = t;
+			else
+				high = t;
+
+			float slope = 3f * u * u * c1 + 6f * u * t * (c3 - c1) + 3f * t * t * (1f - c3);
+			float next = t - error / slope;
+
+			t = next > low && next < high ? next : (low + high) / 2f; //NaN and infinite steps fail the test too
+		}
+
+		return bezier(t, 0f, constraints.c2, constraints.c4, 1f);
+	}
+
+	/**
+	 * Samples a bezier curve going from (0, 0) to (1, 1) with the control points (c1, c2) and (c3, c4), finding for
+	 * each sampled x the parameter of the curve with Newton's method, falling back to bisection when it does not
+	 * converge.
+	 *
+	 * @return the parameter of the curve at evenly spaced x from 0 to 1
+	 */
+	private static float[] createParameters(float c1, float c3)
+	{
+		float[] parameters = new float[BEZIER_SAMPLES + 1];
+		double t = 0.0;
+
+		for(int i = 0; i <= BEZIER_SAMPLES; i++)
+		{
+			t = solveBezier((double)i / BEZIER_SAMPLES, c1, c3, t);
+			parameters[i] = (float)t;
+		}
+
+		return parameters;
+	}
+
+	/**
+	 * @return the parameter t in [0, 1] of the bezier curve for which the x coordinate is the specified one
+	 */
+	private static double solveBezier(double x, double c1, double c3, double guess)
+	{
+		double t = guess;
+
+		for(int i = 0; i < 8; i++)
+		{
+			double u = 1.0 - t;
+			double error = 3.0 * u * u * t * c1 + 3.0 * u * t * t * c3 + t * t * t - x;
+
+			if(Math.abs(error) < 1e-7)
+				return t;
+
+			double slope = 3.0 * u * u * c1 + 6.0 * u * t * (c3 - c1) + 3.0 * t * t * (1.0 - c3);
+
+			if(Math.abs(slope) < 1e-6)
+				break;
+
+			t -= error / slope;
+
+			if(t < 0.0 || t > 1.0)
+				break;
+		}
+
+		double low = 0.0, high = 1.0;
+		t = x;
+
+		for(int i = 0; i < 32; i++)
+		{
+			double u = 1.0 - t;
+
+			if(3.0 * u * u * t * c1 + 3.0 * u * t * t * c3 + t * t * t < x)
+				low = t;
+			else
+				high = t;
+
+			t = (low + high) / 2.0;
+		}
+
+		return t;
 	}
 
 	/**
@@ -135,14 +426,9 @@ public class Curve
 	 */
 	public static class Constraints
 	{
-		public float c1, c2, c3, c4;
+		public final float c1, c2, c3, c4;
 
 		public Constraints(float c1, float c2, float c3, float c4)
-		{
-			this.set(c1, c2, c3, c4);
-		}
-
-		public void set(float c1, float c2, float c3, float c4)
 		{
 			this.c1 = c1;
 			this.c2 = c2;
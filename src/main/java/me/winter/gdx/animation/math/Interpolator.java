@@ -1,11 +1,7 @@
 package me.winter.gdx.animation.math;
 
 
-import com.badlogic.gdx.math.MathUtils;
-
-import static com.badlogic.gdx.math.MathUtils.cos;
-import static java.lang.Math.abs;
-import static java.lang.Math.pow;
+import static java.lang.Math.cbrt;
 
 /**
  * Utility class for various interpolation techniques Spriter is using.
@@ -14,6 +10,13 @@ import static java.lang.Math.pow;
  */
 public class Interpolator
 {
+	/**
+	 * Tolerance of the solvers, relative to the coefficients for negligible ones and absolute for roots out of [0, 1]
+	 */
+	private static final double EPSILON = 1e-7;
+
+	private static final int NEWTON_ITERATIONS = 2;
+
 	public static float linear(float a, float b, float t)
 	{
 		return a + (b - a) * t;
@@ -24,6 +27,33 @@ public class Interpolator
 		return a + (((((b - a) % 360) + 540) % 360) - 180) * t;
 	}
 
+	/**
+	 * Interpolates linearly between two angles, going around in the direction of the spin.
+	 *
+	 * @param a the start angle
+	 * @param b the end angle
+	 * @param t the weight which lies between 0.0 and 1.0
+	 * @param spin the spin, which is either 0, 1 or -1; 0 stays at the start angle
+	 * @return interpolated angle
+	 */
+	public static float spinAngle(float a, float b, float t, int spin)
+	{
+		if(spin > 0)
+		{
+			if(b - a < 0)
+				b += 360;
+		}
+		else if(spin < 0)
+		{
+			if(b - a > 0)
+				b -= 360;
+		}
+		else
+			return a;
+
+		return linear(a, b, t);
+	}
+
 	public static float quadratic(float a, float b, float c, float t)
 	{
 		return linear(linear(a, b, t), linear(b, c, t), t);
@@ -75,79 +105,95 @@ public class Interpolator
 
 
 	/**
-	 * Solves the equation a*x^3 + b*x^2 + c*x +d = 0.
+	 * Solves the equation a*x^3 + b*x^2 + c*x +d = 0. Computed in double precision, the root found is refined by
+	 * Newton's method, and the equation is solved as a quadratic one when the leading coefficient is negligible.
+	 * <p>
+	 * {@link Curve} no longer solves bezier curves with this method, it refines a table of parameters instead. The
+	 * solver stays part of the public API for code solving its own curves, and is the exact reference the curve table
+	 * is benchmarked against, which is why it must return an actual root.
 	 *
 	 * @return the solution of the cubic function if it belongs [0, 1], -1 otherwise.
 	 */
 	public static float solveCubic(float a, float b, float c, float d)
 	{
-		if(a == 0)
+		return (float)solveCubic((double)a, b, c, d);
+	}
+
+	private static double solveCubic(double a, double b, double c, double d)
+	{
+		if(Math.abs(a) < EPSILON * (Math.abs(b) + Math.abs(c) + Math.abs(d)))
 			return solveQuadratic(b, c, d);
 
 		if(d == 0)
-			return 0f;
+			return 0.0;
+
+		double nb = b / a;
+		double nc = c / a;
+		double nd = d / a;
 
-		b /= a;
-		c /= a;
-		d /= a;
+		double squaredB = nb * nb;
+		double q = (3.0 * nc - squaredB) / 9.0;
+		double r = (-27.0 * nd + nb * (9.0 * nc - 2.0 * squaredB)) / 54.0;
+		double disc = q * q * q + r * r;
+		double term1 = nb / 3.0;
 
-		float squaredB = b * b;
-		float q = (3f * c - squaredB) / 9f;
-		float r = (-27f * d + b * (9f * c - 2f * squaredB)) / 54f;
-		float disc = q * q * q + r * r;
-		float term1 = b / 3f;
+		double result;
 
 		if(disc > 0)
 		{
-			float sqrtDisc = (float)Math.sqrt(disc);
+			double sqrtDisc = Math.sqrt(disc);
 
-			float s = (float)pow(abs(r + sqrtDisc), 1f / 3f);
-			float t = (float)pow(abs(r - sqrtDisc), 1f / 3f);
-
-			float result = -term1 + s + t;
-			if(result >= 0 && result <= 1)
-				return result;
+			result = polishCubic(a, b, c, d, -term1 + cbrt(r + sqrtDisc) + cbrt(r - sqrtDisc));
+			if(isWeight(result))
+				return clampWeight(result);
 		}
 		else if(disc == 0)
 		{
-			float r13 = (float)pow(abs(r), 1f / 3f);
-
-			float result = -term1 + 2f * r13;
+			double r13 = cbrt(r);
 
-			if(result >= 0 && result <= 1)
-				return result;
+			result = polishCubic(a, b, c, d, -term1 + 2.0 * r13);
+			if(isWeight(result))
+				return clampWeight(result);
 
-			result = -(r13 + term1);
-			if(result >= 0 && result <= 1)
-				return result;
+			result = polishCubic(a, b, c, d, -(r13 + term1));
+			if(isWeight(result))
+				return clampWeight(result);
 		}
 		else
 		{
-			q *= -1;
-
-			float qSqrt = (float)Math.sqrt(q);
-
-			float dum1 = (float)Math.acos(r / qSqrt * qSqrt * qSqrt);
-
-			float r13 = 2f * qSqrt;
+			double qSqrt = Math.sqrt(-q);
+			double dum1 = Math.acos(Math.max(-1.0, Math.min(1.0, r / (qSqrt * qSqrt * qSqrt))));
+			double r13 = 2.0 * qSqrt;
+
+			for(int i = 0; i < 3; i++)
+			{
+				result = polishCubic(a, b, c, d, -term1 + r13 * Math.cos((dum1 + i * 2.0 * Math.PI) / 3.0));
+				if(isWeight(result))
+					return clampWeight(result);
+			}
+		}
 
-			float result = -term1 + r13 * cos(dum1 / 3f);
+		return -1;
+	}
 
-			if(result >= 0 && result <= 1)
-				return result;
+	/**
+	 * Refines a root of a*x^3 + b*x^2 + c*x + d = 0 with Newton's method, against the error of computing it from the
+	 * normalized equation
+	 */
+	private static double polishCubic(double a, double b, double c, double d, double x)
+	{
+		for(int i = 0; i < NEWTON_ITERATIONS; i++)
+		{
+			double value = ((a * x + b) * x + c) * x + d;
+			double slope = (3.0 * a * x + 2.0 * b) * x + c;
 
-			result = -term1 + r13 * cos((dum1 + MathUtils.PI2) / 3f);
-			if(result >= 0 && result <= 1)
-				return result;
+			if(slope == 0)
+				break;
 
-			result = -term1 + r13 * cos((dum1 + 4f * MathUtils.PI) / 3f);
-			if(result >= 0 && result <= 1)
-				return result;
+			x -= value / slope;
 		}
 
-		//DEBUG
-		System.out.println("WARNING: No cubic solution found for " + a + ", " + b + ", " + c + ", " + d);
-		return -1;
+		return x;
 	}
 
 	/**
@@ -160,20 +206,46 @@ public class Interpolator
 	 */
 	public static float solveQuadratic(float a, float b, float c)
 	{
-		float squaredB = b * b;
-		float twoA = 2 * a;
-		float fourAC = 4 * a * c;
+		return (float)solveQuadratic((double)a, b, c);
+	}
+
+	private static double solveQuadratic(double a, double b, double c)
+	{
+		if(Math.abs(a) < EPSILON * (Math.abs(b) + Math.abs(c)))
+		{
+			if(b == 0)
+				return -1;
+
+			double result = -c / b;
+			return isWeight(result) ? clampWeight(result) : -1;
+		}
+
+		double sqrt = Math.sqrt(b * b - 4.0 * a * c);
+
+		if(Double.isNaN(sqrt))
+			return -1;
 
-		float sqrt = (float)Math.sqrt(squaredB - fourAC);
-		float result = (-b + sqrt) / twoA;
+		//avoids subtracting close values, which loses the precision of the smaller root
+		double q = -0.5 * (b + Math.copySign(sqrt, b));
+		double result = q / a;
 
-		if(result >= 0 && result <= 1)
-			return result;
+		if(isWeight(result))
+			return clampWeight(result);
 
-		result = (-b - sqrt) / twoA;
-		if(result >= 0 && result <= 1)
-			return result;
+		result = q != 0 ? c / q : 0.0;
+		if(isWeight(result))
+			return clampWeight(result);
 
 		return -1;
 	}
+
+	private static boolean isWeight(double x)
+	{
+		return x >= -EPSILON && x <= 1.0 + EPSILON;
+	}
+
+	private static double clampWeight(double x)
+	{
+		return Math.max(0.0, Math.min(1.0, x));
+	}
 }
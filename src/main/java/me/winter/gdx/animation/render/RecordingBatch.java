@@ -0,0 +1,615 @@
+package me.winter.gdx.animation.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.Arrays;
+
+import static me.winter.gdx.animation.render.VertexRenderer.SPRITE_SIZE;
+
+/**
+ * {@link Batch} which does not need a GL context, recording the quads drawn with it into primitive arrays instead of
+ * rendering them. Vertices are computed as {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} computes them, in the same
+ * layout, and the flushes it would do are simulated and counted, along with draw calls, color changes and texture
+ * switches. Meant for benchmarking and testing the draw path on a headless machine.
+ * <p>
+ * When not recording, quads are only counted, so that drawing does not grow the arrays.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class RecordingBatch implements Batch
+{
+	private final int size; //amount of sprites before a simulated flush
+	private final boolean recording;
+
+	private float[] vertices = new float[64 * SPRITE_SIZE];
+	private Texture[] textures = new Texture[64];
+	private int quads = 0; //amount of quads recorded, or only counted when not recording
+
+	private Texture lastTexture;
+	private int pending = 0; //amount of sprites not yet flushed
+
+	private boolean drawing = false;
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA, blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA, blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private ShaderProgram shader;
+
+	private final Matrix4 projectionMatrix = new Matrix4(), transformMatrix = new Matrix4();
+
+	private final Color color = new Color(1f, 1f, 1f, 1f);
+	private float packedColor = Color.WHITE.toFloatBits();
+
+	private int draws, colorChanges, textureSwitches, flushes;
+
+	/**
+	 * Creates a batch recording quads, flushing every 1000 sprites as a default SpriteBatch would
+	 */
+	public RecordingBatch()
+	{
+		this(1000, true);
+	}
+
+	/**
+	 * Creates a batch flushing every specified amount of sprites
+	 *
+	 * @param size amount of sprites drawn before a simulated flush
+	 * @param recording true to record the quads drawn, false to only count them
+	 */
+	public RecordingBatch(int size, boolean recording)
+	{
+		if(size <= 0)
+			throw new IllegalArgumentException("Size must be positive, got " + size);
+
+		this.size = size;
+		this.recording = recording;
+	}
+
+	@Override
+	public void begin()
+	{
+		if(drawing)
+			throw new IllegalStateException("RecordingBatch.end must be called before begin.");
+
+		drawing = true;
+	}
+
+	@Override
+	public void end()
+	{
+		if(!drawing)
+			throw new IllegalStateException("RecordingBatch.begin must be called before end.");
+
+		flush();
+		drawing = false;
+	}
+
+	@Override
+	public void setColor(Color tint)
+	{
+		setPackedColor(tint.toFloatBits());
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a)
+	{
+		setPackedColor(Color.toFloatBits(r, g, b, a));
+	}
+
+	@Override
+	public Color getColor()
+	{
+		return color;
+	}
+
+	@Override
+	public void setPackedColor(float packedColor)
+	{
+		if(Float.floatToRawIntBits(packedColor) != Float.floatToRawIntBits(this.packedColor))
+			colorChanges++;
+
+		Color.abgr8888ToColor(color, packedColor);
+		this.packedColor = packedColor;
+	}
+
+	@Override
+	public float getPackedColor()
+	{
+		return packedColor;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
+	{
+		float invTexWidth = 1f / texture.getWidth(), invTexHeight = 1f / texture.getHeight();
+
+		float u = srcX * invTexWidth, v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth, v2 = srcY * invTexHeight;
+
+		if(flipX)
+		{
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if(flipY)
+		{
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		draw(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v2, u2, v);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
+	{
+		float invTexWidth = 1f / texture.getWidth(), invTexHeight = 1f / texture.getHeight();
+
+		float u = srcX * invTexWidth, v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth, v2 = srcY * invTexHeight;
+
+		if(flipX)
+		{
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if(flipY)
+		{
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		draw(texture, x, y, width, height, u, v, u2, v2);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight)
+	{
+		float invTexWidth = 1f / texture.getWidth(), invTexHeight = 1f / texture.getHeight();
+
+		draw(texture,
+				x,
+				y,
+				srcWidth,
+				srcHeight,
+				srcX * invTexWidth,
+				(srcY + srcHeight) * invTexHeight,
+				(srcX + srcWidth) * invTexWidth,
+				srcY * invTexHeight);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2)
+	{
+		float fx2 = x + width, fy2 = y + height;
+
+		quad(texture, x, y, u, v, x, fy2, u, v2, fx2, fy2, u2, v2, fx2, y, u2, v);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y)
+	{
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height)
+	{
+		draw(texture, x, y, width, height, 0f, 1f, 1f, 0f);
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count)
+	{
+		checkDrawing();
+		draws++;
+
+		for(int i = offset; i + SPRITE_SIZE <= offset + count; i += SPRITE_SIZE)
+		{
+			int quad = next(texture);
+
+			if(quad >= 0)
+				System.arraycopy(spriteVertices, i, vertices, quad * SPRITE_SIZE, SPRITE_SIZE);
+		}
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y)
+	{
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height)
+	{
+		draw(region.getTexture(), x, y, width, height, region.getU(), region.getV2(), region.getU2(), region.getV());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation)
+	{
+		float u = region.getU(), v = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+
+		draw(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v2, u2, v);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise)
+	{
+		if(clockwise)
+			draw(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+					region.getU2(), region.getV2(),
+					region.getU(), region.getV2(),
+					region.getU(), region.getV(),
+					region.getU2(), region.getV());
+		else
+			draw(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+					region.getU(), region.getV(),
+					region.getU2(), region.getV(),
+					region.getU2(), region.getV2(),
+					region.getU(), region.getV2());
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform)
+	{
+		float x1 = transform.m02, y1 = transform.m12;
+		float x2 = transform.m01 * height + transform.m02, y2 = transform.m11 * height + transform.m12;
+		float x3 = transform.m00 * width + transform.m01 * height + transform.m02;
+		float y3 = transform.m10 * width + transform.m11 * height + transform.m12;
+		float x4 = transform.m00 * width + transform.m02, y4 = transform.m10 * width + transform.m12;
+
+		float u = region.getU(), v = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+
+		quad(region.getTexture(), x1, y1, u, v, x2, y2, u, v2, x3, y3, u2, v2, x4, y4, u2, v);
+	}
+
+	/**
+	 * Computes the corners of a scaled and rotated quad as SpriteBatch does and records it
+	 */
+	private void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation,
+	                  float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4)
+	{
+		float worldOriginX = x + originX, worldOriginY = y + originY;
+
+		float fx = -originX * scaleX, fy = -originY * scaleY;
+		float fx2 = (width - originX) * scaleX, fy2 = (height - originY) * scaleY;
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+
+		if(rotation != 0f)
+		{
+			float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+			x3 = cos * fx2 - sin * fy2;
+			y3 = sin * fx2 + cos * fy2;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		}
+		else
+		{
+			x1 = fx;
+			y1 = fy;
+			x2 = fx;
+			y2 = fy2;
+			x3 = fx2;
+			y3 = fy2;
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		quad(texture,
+				x1 + worldOriginX, y1 + worldOriginY, u1, v1,
+				x2 + worldOriginX, y2 + worldOriginY, u2, v2,
+				x3 + worldOriginX, y3 + worldOriginY, u3, v3,
+				x4 + worldOriginX, y4 + worldOriginY, u4, v4);
+	}
+
+	private void quad(Texture texture,
+	                  float x1, float y1, float u1, float v1,
+	                  float x2, float y2, float u2, float v2,
+	                  float x3, float y3, float u3, float v3,
+	                  float x4, float y4, float u4, float v4)
+	{
+		checkDrawing();
+		draws++;
+
+		int quad = next(texture);
+
+		if(quad < 0)
+			return;
+
+		int i = quad * SPRITE_SIZE;
+		float color = packedColor;
+
+		vertices[i] = x1;
+		vertices[i + 1] = y1;
+		vertices[i + 2] = color;
+		vertices[i + 3] = u1;
+		vertices[i + 4] = v1;
+
+		vertices[i + 5] = x2;
+		vertices[i + 6] = y2;
+		vertices[i + 7] = color;
+		vertices[i + 8] = u2;
+		vertices[i + 9] = v2;
+
+		vertices[i + 10] = x3;
+		vertices[i + 11] = y3;
+		vertices[i + 12] = color;
+		vertices[i + 13] = u3;
+		vertices[i + 14] = v3;
+
+		vertices[i + 15] = x4;
+		vertices[i + 16] = y4;
+		vertices[i + 17] = color;
+		vertices[i + 18] = u4;
+		vertices[i + 19] = v4;
+	}
+
+	/**
+	 * Accounts for a quad of the specified texture, simulating the flushes of a SpriteBatch
+	 *
+	 * @return index of the quad to record, -1 when not recording
+	 */
+	private int next(Texture texture)
+	{
+		if(texture != lastTexture)
+		{
+			flush();
+			lastTexture = texture;
+			textureSwitches++;
+		}
+		else if(pending == size)
+			flush();
+
+		pending++;
+
+		if(!recording)
+		{
+			quads++;
+			return -1;
+		}
+
+		if(quads == textures.length)
+		{
+			vertices = Arrays.copyOf(vertices, quads * 2 * SPRITE_SIZE);
+			textures = Arrays.copyOf(textures, quads * 2);
+		}
+
+		textures[quads] = texture;
+		return quads++;
+	}
+
+	private void checkDrawing()
+	{
+		if(!drawing)
+			throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+	}
+
+	@Override
+	public void flush()
+	{
+		if(pending == 0)
+			return;
+
+		pending = 0;
+		flushes++;
+	}
+
+	/**
+	 * Forgets the recorded quads and resets the counters
+	 */
+	public void reset()
+	{
+		Arrays.fill(textures, 0, recording ? quads : 0, null);
+		quads = 0;
+		pending = 0;
+		lastTexture = null;
+
+		draws = 0;
+		colorChanges = 0;
+		textureSwitches = 0;
+		flushes = 0;
+	}
+
+	@Override
+	public void disableBlending()
+	{
+		if(blendingDisabled)
+			return;
+
+		flush();
+		blendingDisabled = true;
+	}
+
+	@Override
+	public void enableBlending()
+	{
+		if(!blendingDisabled)
+			return;
+
+		flush();
+		blendingDisabled = false;
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc)
+	{
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha)
+	{
+		if(blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor
+				&& blendSrcFuncAlpha == srcFuncAlpha && blendDstFuncAlpha == dstFuncAlpha)
+			return;
+
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc()
+	{
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc()
+	{
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha()
+	{
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha()
+	{
+		return blendDstFuncAlpha;
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix()
+	{
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix()
+	{
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection)
+	{
+		flush();
+		projectionMatrix.set(projection);
+	}
+
+	@Override
+	public void setTransformMatrix(Matrix4 transform)
+	{
+		flush();
+		transformMatrix.set(transform);
+	}
+
+	@Override
+	public void setShader(ShaderProgram shader)
+	{
+		flush();
+		this.shader = shader;
+	}
+
+	@Override
+	public ShaderProgram getShader()
+	{
+		return shader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled()
+	{
+		return !blendingDisabled;
+	}
+
+	@Override
+	public boolean isDrawing()
+	{
+		return drawing;
+	}
+
+	@Override
+	public void dispose() {}
+
+	/**
+	 * @return vertices of the recorded quads, in the layout of SpriteBatch, {@link VertexRenderer#SPRITE_SIZE} floats
+	 * per quad
+	 */
+	public float[] getVertices()
+	{
+		return vertices;
+	}
+
+	/**
+	 * @param quad index of the quad
+	 * @return texture of the specified recorded quad
+	 */
+	public Texture getTexture(int quad)
+	{
+		return textures[quad];
+	}
+
+	/**
+	 * @return amount of quads drawn since the last reset
+	 */
+	public int getQuadCount()
+	{
+		return quads;
+	}
+
+	/**
+	 * @return amount of draw calls since the last reset
+	 */
+	public int getDrawCount()
+	{
+		return draws;
+	}
+
+	/**
+	 * @return amount of times the color changed since the last reset
+	 */
+	public int getColorChanges()
+	{
+		return colorChanges;
+	}
+
+	/**
+	 * @return amount of times the texture changed since the last reset
+	 */
+	public int getTextureSwitches()
+	{
+		return textureSwitches;
+	}
+
+	/**
+	 * @return amount of flushes a SpriteBatch would have done since the last reset
+	 */
+	public int getFlushes()
+	{
+		return flushes;
+	}
+
+	public boolean isRecording()
+	{
+		return recording;
+	}
+}
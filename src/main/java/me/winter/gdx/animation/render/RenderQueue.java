@@ -0,0 +1,442 @@
+package me.winter.gdx.animation.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.Pose;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.SpriteTimeline;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.drawable.TintedSpriteDrawable;
+
+import java.util.Arrays;
+
+import static me.winter.gdx.animation.render.VertexRenderer.SPRITE_SIZE;
+
+/**
+ * Collects the sprites of many {@link Animation}s and draws them sorted by layer, then z-index, then texture, so that
+ * sprites sharing a texture are submitted together instead of flushing the batch on every texture switch.
+ * <p>
+ * Layers are drawn in increasing order. Within a layer, sprites are drawn by the z-index of their timeline, whatever
+ * animation they come from, sprites of the same z-index being grouped by texture. The sprites of animations on the
+ * same layer therefore interleave by z-index; animations which must be drawn one over the other should be added on
+ * different layers.
+ * <p>
+ * Quads are computed when the animations are added, from the pose to draw at that time, as {@link VertexRenderer}
+ * does. Sprites of other drawables are drawn through the batch in their place in the order.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class RenderQueue
+{
+	private static final int ENTRY_BITS = 20, TEXTURE_BITS = 12, Z_BITS = 16;
+	private static final int MAX_ENTRIES = 1 << ENTRY_BITS, MAX_TEXTURES = 1 << TEXTURE_BITS, MAX_Z = 1 << Z_BITS;
+
+	private long[] keys = new long[64]; //layer, z-index, texture id and entry index packed for sorting
+	private float[] vertices = new float[64 * SPRITE_SIZE]; //quad of each entry, colors written when drawing
+	private float[] colors = new float[64 * 4]; //color of each entry, without the color of the batch
+	private Texture[] textures = new Texture[64]; //texture of each entry, null for other drawables
+	private Pose[] poses = new Pose[64]; //pose of each entry drawn by other drawables
+	private int[] indices = new int[64]; //index in the pose of each entry drawn by other drawables
+	private int size = 0;
+
+	private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+	private Texture lastAdded; //to count the texture switches of drawing in the order added
+
+	private final float[] staging; //vertices being submitted
+	private int staged = 0;
+	private Texture stagedTexture;
+
+	private final Sprite drawnSprite = new Sprite(); //view of the pose for other drawables
+	private final Rectangle drawnBounds = new Rectangle();
+
+	private int textureSwitches, flushes, unsortedTextureSwitches;
+
+	/**
+	 * Creates a queue submitting up to 1000 sprites at once
+	 */
+	public RenderQueue()
+	{
+		this(new float[1000 * SPRITE_SIZE]);
+	}
+
+	/**
+	 * Creates a queue submitting vertices from the specified array
+	 *
+	 * @param staging array to submit vertices from, holding at least one sprite
+	 */
+	public RenderQueue(float[] staging)
+	{
+		if(staging.length < SPRITE_SIZE)
+			throw new IllegalArgumentException("Vertex array must hold at least one sprite (" + SPRITE_SIZE + " floats), got " + staging.length);
+
+		this.staging = staging;
+	}
+
+	/**
+	 * Adds the sprites of the specified animation on layer 0
+	 *
+	 * @param animation animation to draw
+	 */
+	public void add(Animation animation)
+	{
+		add(animation, 0, animation.acquirePose(), null);
+	}
+
+	/**
+	 * Adds the sprites of the specified animation on the specified layer
+	 *
+	 * @param animation animation to draw
+	 * @param layer layer to draw the animation on, between -32768 and 32767
+	 */
+	public void add(Animation animation, int layer)
+	{
+		add(animation, layer, animation.acquirePose(), null);
+	}
+
+	/**
+	 * Adds the sprites of the specified animation which can be seen in the specified view on the specified layer
+	 *
+	 * @param animation animation to draw
+	 * @param layer layer to draw the animation on, between -32768 and 32767
+	 * @param view view to draw in, in world coordinates
+	 */
+	public void add(Animation animation, int layer, Rectangle view)
+	{
+		add(animation, layer, animation.acquirePose(), view);
+	}
+
+	/**
+	 * Adds the sprites of the specified pose of an animation on the specified layer
+	 *
+	 * @param animation animation to draw
+	 * @param layer layer to draw the animation on, between -32768 and 32767
+	 * @param pose pose of the animation to draw, as given by {@link Animation#acquirePose()}, which must not change
+	 * until drawn
+	 * @param view view to draw in, in world coordinates, null to draw every sprite
+	 */
+	public void add(Animation animation, int layer, Pose pose, Rectangle view)
+	{
+		if(layer < Short.MIN_VALUE || layer > Short.MAX_VALUE)
+			throw new IllegalArgumentException("Layer must fit in a short, got " + layer);
+
+		float alpha = animation.getAlpha();
+
+		if(alpha <= 0f)
+			return;
+
+		int[] drawOrder = animation.getData().getDrawOrder();
+		Array<Timeline> timelines = animation.getData().getTimelines();
+
+		for(int i = 0; i < drawOrder.length; i++)
+		{
+			int index = drawOrder[i];
+			SpriteDrawable drawable = pose.drawable[index];
+
+			if(drawable == null || pose.alpha[index] <= 0f)
+				continue;
+
+			if(view != null && drawable.getBounds(drawnBounds) && !pose.overlaps(index, drawnBounds, view))
+				continue;
+
+			float r = 1f, g = 1f, b = 1f, a = alpha * pose.alpha[index];
+
+			while(drawable instanceof TintedSpriteDrawable)
+			{
+				Color tint = ((TintedSpriteDrawable)drawable).getColor();
+				r *= tint.r;
+				g *= tint.g;
+				b *= tint.b;
+				a *= tint.a;
+				drawable = ((TintedSpriteDrawable)drawable).getDrawable();
+			}
+
+			if(drawable == null)
+				continue;
+
+			Texture texture = null;
+
+			if(drawable instanceof TextureSpriteDrawable)
+			{
+				TextureRegion region = ((TextureSpriteDrawable)drawable).getRegion();
+
+				if(region == null || region.getTexture() == null)
+					continue;
+
+				texture = region.getTexture();
+			}
+
+			int zIndex = ((SpriteTimeline)timelines.get(index)).getZIndex();
+
+			if(zIndex < 0 || zIndex >= MAX_Z)
+				throw new GdxRuntimeException("Z-index of timeline " + index + " of animation " + animation.getName()
+						+ " must be between 0 and " + (MAX_Z - 1) + " to be queued, got " + zIndex);
+
+			int entry = size++;
+			ensureCapacity(size);
+
+			if(texture != null)
+			{
+				VertexRenderer.write(vertices, entry * SPRITE_SIZE, pose, index, (TextureSpriteDrawable)drawable, 0f);
+
+				colors[entry * 4] = r;
+				colors[entry * 4 + 1] = g;
+				colors[entry * 4 + 2] = b;
+				colors[entry * 4 + 3] = a;
+			}
+			else
+			{
+				poses[entry] = pose;
+				indices[entry] = index;
+				colors[entry * 4 + 3] = alpha; //other drawables apply the alpha of the sprite themselves
+			}
+
+			textures[entry] = texture;
+			keys[entry] = (long)layer << (Z_BITS + TEXTURE_BITS + ENTRY_BITS)
+					| (long)zIndex << (TEXTURE_BITS + ENTRY_BITS)
+					| (long)getTextureId(texture) << ENTRY_BITS
+					| entry;
+
+			if(texture != lastAdded || texture == null)
+				unsortedTextureSwitches++;
+			lastAdded = texture;
+		}
+	}
+
+	/**
+	 * Draws every queued sprite, sorted, then clears this queue
+	 *
+	 * @param batch batch to draw with
+	 */
+	public void draw(Batch batch)
+	{
+		sort(keys, 0, size);
+
+		Color color = batch.getColor();
+		float r = color.r, g = color.g, b = color.b, a = color.a;
+
+		for(int i = 0; i < size; i++)
+		{
+			int entry = (int)(keys[i] & (MAX_ENTRIES - 1));
+			Texture texture = textures[entry];
+
+			if(texture == null)
+			{
+				flush(batch);
+				stagedTexture = null;
+				textureSwitches++;
+
+				float prevColor = batch.getPackedColor();
+				color.a = a * colors[entry * 4 + 3];
+				batch.setColor(color);
+
+				Pose pose = poses[entry];
+				pose.drawable[indices[entry]].draw(pose, indices[entry], drawnSprite, batch);
+
+				batch.setPackedColor(prevColor);
+				continue;
+			}
+
+			if(texture != stagedTexture || staged + SPRITE_SIZE > staging.length)
+			{
+				flush(batch);
+
+				if(texture != stagedTexture)
+					textureSwitches++;
+				stagedTexture = texture;
+			}
+
+			float packed = Color.toFloatBits(r * colors[entry * 4],
+					g * colors[entry * 4 + 1],
+					b * colors[entry * 4 + 2],
+					a * colors[entry * 4 + 3]);
+
+			System.arraycopy(vertices, entry * SPRITE_SIZE, staging, staged, SPRITE_SIZE);
+			staging[staged + 2] = packed;
+			staging[staged + 7] = packed;
+			staging[staged + 12] = packed;
+			staging[staged + 17] = packed;
+			staged += SPRITE_SIZE;
+		}
+
+		flush(batch);
+		stagedTexture = null;
+		clear();
+	}
+
+	/**
+	 * Sorts the specified range of keys in place. Unlike {@link Arrays#sort(long[], int, int)}, which allocates when
+	 * the keys hold sorted runs, as keys added animation by animation do, allocates nothing.
+	 *
+	 * @param keys keys to sort, all different
+	 * @param from index of the first key to sort, inclusive
+	 * @param to index of the last key to sort, exclusive
+	 */
+	private static void sort(long[] keys, int from, int to)
+	{
+		while(to - from > 16)
+		{
+			//median of three as pivot, keeping the recursion shallow on sorted runs
+			int middle = (from + to) >>> 1;
+			long a = keys[from], b = keys[middle], c = keys[to - 1];
+			long pivot = a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+
+			int i = from, j = to - 1;
+
+			while(i <= j)
+			{
+				while(keys[i] < pivot)
+					i++;
+				while(keys[j] > pivot)
+					j--;
+
+				if(i <= j)
+				{
+					long swap = keys[i];
+					keys[i++] = keys[j];
+					keys[j--] = swap;
+				}
+			}
+
+			//recurses on the smaller side and loops on the larger one
+			if(j + 1 - from < to - i)
+			{
+				sort(keys, from, j + 1);
+				from = i;
+			}
+			else
+			{
+				sort(keys, i, to);
+				to = j + 1;
+			}
+		}
+
+		for(int i = from + 1; i < to; i++)
+		{
+			long key = keys[i];
+			int j = i - 1;
+
+			while(j >= from && keys[j] > key)
+			{
+				keys[j + 1] = keys[j];
+				j--;
+			}
+
+			keys[j + 1] = key;
+		}
+	}
+
+	private void flush(Batch batch)
+	{
+		if(staged == 0)
+			return;
+
+		batch.draw(stagedTexture, staging, 0, staged);
+		staged = 0;
+		flushes++;
+	}
+
+	/**
+	 * Removes every queued sprite without drawing them
+	 */
+	public void clear()
+	{
+		Arrays.fill(poses, 0, size, null);
+		Arrays.fill(textures, 0, size, null);
+		size = 0;
+		textureIds.clear();
+		lastAdded = null;
+	}
+
+	private int getTextureId(Texture texture)
+	{
+		if(texture == null)
+			return 0;
+
+		int id = textureIds.get(texture, 0);
+
+		if(id == 0)
+		{
+			id = textureIds.size + 1;
+
+			if(id >= MAX_TEXTURES)
+				throw new GdxRuntimeException("Too many textures queued, at most " + (MAX_TEXTURES - 1) + " are supported");
+
+			textureIds.put(texture, id);
+		}
+
+		return id;
+	}
+
+	private void ensureCapacity(int capacity)
+	{
+		if(capacity <= keys.length)
+			return;
+
+		if(capacity > MAX_ENTRIES)
+			throw new GdxRuntimeException("Too many sprites queued, at most " + MAX_ENTRIES + " are supported");
+
+		int newCapacity = Math.min(Math.max(capacity, keys.length * 2), MAX_ENTRIES);
+
+		keys = Arrays.copyOf(keys, newCapacity);
+		vertices = Arrays.copyOf(vertices, newCapacity * SPRITE_SIZE);
+		colors = Arrays.copyOf(colors, newCapacity * 4);
+		textures = Arrays.copyOf(textures, newCapacity);
+		poses = Arrays.copyOf(poses, newCapacity);
+		indices = Arrays.copyOf(indices, newCapacity);
+	}
+
+	/**
+	 * Resets the counters of texture switches and flushes
+	 */
+	public void resetStats()
+	{
+		textureSwitches = 0;
+		flushes = 0;
+		unsortedTextureSwitches = 0;
+	}
+
+	/**
+	 * @return amount of sprites queued
+	 */
+	public int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * @return amount of times the texture changed while drawing, sprites of other drawables counting as a change,
+	 * since the last reset of the stats
+	 */
+	public int getTextureSwitches()
+	{
+		return textureSwitches;
+	}
+
+	/**
+	 * @return amount of times the texture would have changed drawing sprites in the order they were added, since the
+	 * last reset of the stats
+	 */
+	public int getUnsortedTextureSwitches()
+	{
+		return unsortedTextureSwitches;
+	}
+
+	/**
+	 * @return amount of vertex arrays submitted to the batch since the last reset of the stats
+	 */
+	public int getFlushes()
+	{
+		return flushes;
+	}
+}
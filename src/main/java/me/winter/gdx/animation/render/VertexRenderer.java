@@ -0,0 +1,245 @@
+package me.winter.gdx.animation.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.Pose;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.drawable.TintedSpriteDrawable;
+
+/**
+ * Draws animations by writing the final vertices of their sprites into a float array, in the vertex layout of
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} (x, y, packed color, u, v), and submitting them with
+ * {@link Batch#draw(Texture, float[], int, int)}. Quads are computed from the world transforms of the {@link Pose} and
+ * colors are packed once per sprite, without changing the color of the batch.
+ * <p>
+ * Sprites drawn by a {@link TextureSpriteDrawable}, tinted or not, are written into the array. Other drawables are
+ * drawn through the batch after flushing the vertices written before them. Vertices are submitted when the texture
+ * changes or the array is full, {@link #flush(Batch)} must be called before drawing anything else with the batch.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class VertexRenderer
+{
+	/**
+	 * Amount of floats per vertex: x, y, packed color, u, v
+	 */
+	public static final int VERTEX_SIZE = 5;
+
+	/**
+	 * Amount of floats per sprite, 4 vertices
+	 */
+	public static final int SPRITE_SIZE = 4 * VERTEX_SIZE;
+
+	private final float[] vertices;
+	private int count = 0; //amount of floats written
+	private Texture texture;
+
+	private final Sprite drawnSprite = new Sprite(); //view of the pose for other drawables
+	private final Rectangle drawnBounds = new Rectangle();
+
+	/**
+	 * Creates a renderer holding up to 1000 sprites before submitting them
+	 */
+	public VertexRenderer()
+	{
+		this(new float[1000 * SPRITE_SIZE]);
+	}
+
+	/**
+	 * Creates a renderer writing into the specified array
+	 *
+	 * @param vertices array to write vertices into, holding at least one sprite
+	 */
+	public VertexRenderer(float[] vertices)
+	{
+		if(vertices.length < SPRITE_SIZE)
+			throw new IllegalArgumentException("Vertex array must hold at least one sprite (" + SPRITE_SIZE + " floats), got " + vertices.length);
+
+		this.vertices = vertices;
+	}
+
+	/**
+	 * Draws the specified animation, as {@link Animation#draw(Batch)} would
+	 *
+	 * @param batch batch to submit vertices to
+	 * @param animation animation to draw
+	 */
+	public void draw(Batch batch, Animation animation)
+	{
+		draw(batch, animation, animation.acquirePose(), null);
+	}
+
+	/**
+	 * Draws the sprites of the specified animation which can be seen in the specified view, as
+	 * {@link Animation#draw(Batch, Rectangle)} would
+	 *
+	 * @param batch batch to submit vertices to
+	 * @param animation animation to draw
+	 * @param view view to draw in, in world coordinates
+	 */
+	public void draw(Batch batch, Animation animation, Rectangle view)
+	{
+		draw(batch, animation, animation.acquirePose(), view);
+	}
+
+	/**
+	 * Draws the specified pose of an animation
+	 *
+	 * @param batch batch to submit vertices to
+	 * @param animation animation to draw
+	 * @param pose pose of the animation to draw, as given by {@link Animation#acquirePose()}
+	 * @param view view to draw in, in world coordinates, null to draw every sprite
+	 */
+	public void draw(Batch batch, Animation animation, Pose pose, Rectangle view)
+	{
+		Color color = batch.getColor();
+		float alpha = color.a * animation.getAlpha();
+
+		if(alpha <= 0f)
+			return;
+
+		int[] drawOrder = animation.getData().getDrawOrder();
+
+		for(int i = 0; i < drawOrder.length; i++)
+		{
+			int index = drawOrder[i];
+			SpriteDrawable drawable = pose.drawable[index];
+
+			if(drawable == null || pose.alpha[index] <= 0f)
+				continue;
+
+			if(view != null && drawable.getBounds(drawnBounds) && !pose.overlaps(index, drawnBounds, view))
+				continue;
+
+			float r = color.r, g = color.g, b = color.b, a = alpha * pose.alpha[index];
+
+			while(drawable instanceof TintedSpriteDrawable)
+			{
+				Color tint = ((TintedSpriteDrawable)drawable).getColor();
+				r *= tint.r;
+				g *= tint.g;
+				b *= tint.b;
+				a *= tint.a;
+				drawable = ((TintedSpriteDrawable)drawable).getDrawable();
+			}
+
+			if(drawable == null)
+				continue;
+
+			if(drawable instanceof TextureSpriteDrawable)
+			{
+				TextureSpriteDrawable textureDrawable = (TextureSpriteDrawable)drawable;
+				TextureRegion region = textureDrawable.getRegion();
+
+				if(region == null || region.getTexture() == null)
+					continue;
+
+				if(region.getTexture() != texture || count + SPRITE_SIZE > vertices.length)
+				{
+					flush(batch);
+					texture = region.getTexture();
+				}
+
+				write(vertices, count, pose, index, textureDrawable, Color.toFloatBits(r, g, b, a));
+				count += SPRITE_SIZE;
+				continue;
+			}
+
+			flush(batch);
+
+			float prevColor = batch.getPackedColor();
+			color.a = alpha;
+			batch.setColor(color);
+
+			pose.drawable[index].draw(pose, index, drawnSprite, batch);
+
+			batch.setPackedColor(prevColor);
+		}
+	}
+
+	/**
+	 * Submits the vertices written so far to the specified batch
+	 *
+	 * @param batch batch to submit vertices to
+	 */
+	public void flush(Batch batch)
+	{
+		if(count == 0)
+			return;
+
+		batch.draw(texture, vertices, 0, count);
+		count = 0;
+	}
+
+	/**
+	 * Writes the quad of the sprite at the specified index, as drawn by its {@link TextureSpriteDrawable}, into the
+	 * specified array
+	 *
+	 * @param vertices array to write into
+	 * @param offset index of the first float to write
+	 * @param pose pose of the sprite
+	 * @param index index of the sprite in the pose
+	 * @param drawable drawable of the sprite
+	 * @param color packed color of the sprite
+	 */
+	public static void write(float[] vertices, int offset, Pose pose, int index, TextureSpriteDrawable drawable, float color)
+	{
+		TextureRegion region = drawable.getRegion();
+
+		float width = drawable.getWidth(), height = drawable.getHeight();
+		float originX = -width * drawable.getPivotX(), originY = -height * drawable.getPivotY();
+
+		float m00 = pose.m00[index], m01 = pose.m01[index];
+		float m10 = pose.m10[index], m11 = pose.m11[index];
+
+		//corners of the quad, starting at the bottom left and going clockwise
+		float x1 = m00 * originX + m01 * originY + pose.x[index];
+		float y1 = m10 * originX + m11 * originY + pose.y[index];
+		float x2 = x1 + m01 * height;
+		float y2 = y1 + m11 * height;
+		float x3 = x2 + m00 * width;
+		float y3 = y2 + m10 * width;
+		float x4 = x1 + m00 * width;
+		float y4 = y1 + m10 * width;
+
+		float u = region.getU(), v = region.getV2();
+		float u2 = region.getU2(), v2 = region.getV();
+
+		vertices[offset] = x1;
+		vertices[offset + 1] = y1;
+		vertices[offset + 2] = color;
+		vertices[offset + 3] = u;
+		vertices[offset + 4] = v;
+
+		vertices[offset + 5] = x2;
+		vertices[offset + 6] = y2;
+		vertices[offset + 7] = color;
+		vertices[offset + 8] = u;
+		vertices[offset + 9] = v2;
+
+		vertices[offset + 10] = x3;
+		vertices[offset + 11] = y3;
+		vertices[offset + 12] = color;
+		vertices[offset + 13] = u2;
+		vertices[offset + 14] = v2;
+
+		vertices[offset + 15] = x4;
+		vertices[offset + 16] = y4;
+		vertices[offset + 17] = color;
+		vertices[offset + 18] = u2;
+		vertices[offset + 19] = v;
+	}
+
+	public float[] getVertices()
+	{
+		return vertices;
+	}
+}
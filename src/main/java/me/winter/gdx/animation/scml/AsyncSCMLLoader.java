@@ -0,0 +1,55 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.scml.SCMLLoader.SCMLProjectParameters;
+
+/**
+ * Loads a SCML file (Spriter format) into LibGDX's AssetManager, off the rendering thread. The file is parsed, its
+ * animations built and their bounds computed on the executor of the AssetManager, the rendering thread only receiving
+ * the built project.
+ * <p>
+ * Nothing of the loading needs an OpenGL context: the atlas, loaded beforehand as a dependency, is only read to find
+ * the regions of the assets, whose sizes the bounds are computed from.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncSCMLLoader extends AsynchronousAssetLoader<SCMLProject, SCMLProjectParameters>
+{
+	private SCMLProject project; //built by loadAsync, handed over by loadSync
+
+	public AsyncSCMLLoader(FileHandleResolver resolver)
+	{
+		super(resolver);
+	}
+
+	@Override
+	public void loadAsync(AssetManager assetManager, String fileName, FileHandle file, SCMLProjectParameters params)
+	{
+		SCMLStreamReader reader = new SCMLStreamReader();
+		reader.setAtlas(assetManager.get(params.textureAtlasName, TextureAtlas.class));
+		project = reader.load(file.read());
+	}
+
+	@Override
+	public SCMLProject loadSync(AssetManager assetManager, String fileName, FileHandle file, SCMLProjectParameters params)
+	{
+		SCMLProject project = this.project;
+		this.project = null;
+		return project;
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes") //signature of AssetLoader
+	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, SCMLProjectParameters params)
+	{
+		return SCMLLoader.getAtlasDependency(params);
+	}
+}
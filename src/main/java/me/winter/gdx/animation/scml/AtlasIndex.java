@@ -0,0 +1,57 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Regions of a {@link TextureAtlas} by name, found in constant time rather than by scanning every region of the atlas
+ * as {@link TextureAtlas#findRegion(String)} does. Never modified once created, so loads on different threads can share
+ * it. Regions added to the atlas afterwards are not indexed.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AtlasIndex
+{
+	private final TextureAtlas atlas;
+	private final ObjectMap<String, AtlasRegion> regions;
+
+	/**
+	 * Indexes the regions of the specified atlas
+	 *
+	 * @param atlas atlas to index
+	 */
+	public AtlasIndex(TextureAtlas atlas)
+	{
+		Array<AtlasRegion> atlasRegions = atlas.getRegions();
+
+		this.atlas = atlas;
+		this.regions = new ObjectMap<>(atlasRegions.size);
+
+		//the first region of a name wins, as with TextureAtlas.findRegion
+		for(int i = 0; i < atlasRegions.size; i++)
+		{
+			AtlasRegion region = atlasRegions.get(i); //the iterators of an array can't be shared between threads
+
+			if(!regions.containsKey(region.name))
+				regions.put(region.name, region);
+		}
+	}
+
+	/**
+	 * @param name name of the region
+	 * @return the first region of the atlas with the specified name, null if there is none
+	 */
+	public AtlasRegion findRegion(String name)
+	{
+		return regions.get(name);
+	}
+
+	public TextureAtlas getAtlas()
+	{
+		return atlas;
+	}
+}
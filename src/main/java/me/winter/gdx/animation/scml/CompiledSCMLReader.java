@@ -0,0 +1,299 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import me.winter.gdx.animation.AnimatedPart;
+import me.winter.gdx.animation.AnimationData;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.Mainline;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.SpriteTimeline;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.TimelineKey;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.CurveType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static me.winter.gdx.animation.scml.SCMLCompiler.OBJECT_BONE;
+import static me.winter.gdx.animation.scml.SCMLCompiler.OBJECT_NONE;
+import static me.winter.gdx.animation.scml.SCMLCompiler.OBJECT_SPRITE;
+
+/**
+ * Reads projects compiled by {@link SCMLCompiler} and gives the same project as {@link SCMLReader} would from the
+ * source file. Nothing is parsed: values are read as they are stored and curves are shared between the keys using
+ * them.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class CompiledSCMLReader
+{
+	private AtlasIndex atlas;
+
+	/**
+	 * Creates a new compiled SCML reader
+	 */
+	public CompiledSCMLReader() {}
+
+	/**
+	 * Reads the compiled project in the given file, mapping it in memory when its type allows it
+	 *
+	 * @param file the compiled file
+	 * @return the built data
+	 */
+	public SCMLProject load(FileHandle file)
+	{
+		ByteBuffer buffer;
+
+		try
+		{
+			buffer = file.map();
+		}
+		catch(GdxRuntimeException ex)
+		{
+			buffer = ByteBuffer.wrap(file.readBytes()); //classpath and internal files on some backends can't be mapped
+		}
+
+		return load(buffer);
+	}
+
+	/**
+	 * Reads the compiled project from the given stream, without closing it
+	 *
+	 * @param stream the stream of the compiled file
+	 * @return the built data
+	 */
+	public SCMLProject load(InputStream stream)
+	{
+		try
+		{
+			return load(StreamUtils.copyStreamToByteArray(stream));
+		}
+		catch(IOException ex)
+		{
+			throw new GdxRuntimeException("Couldn't read compiled project", ex);
+		}
+	}
+
+	/**
+	 * Reads the compiled project in the given bytes
+	 *
+	 * @param bytes the compiled project
+	 * @return the built data
+	 */
+	public SCMLProject load(byte[] bytes)
+	{
+		return load(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Reads the compiled project from the position of the given buffer up to its limit
+	 *
+	 * @param buffer buffer holding the compiled project
+	 * @return the built data
+	 */
+	public SCMLProject load(ByteBuffer buffer)
+	{
+		buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+
+		if(buffer.remaining() < 8 || buffer.getInt() != SCMLCompiler.MAGIC)
+			throw new GdxRuntimeException("Not a compiled SCML project");
+
+		int version = buffer.getInt();
+
+		if(version != SCMLCompiler.VERSION)
+			throw new GdxRuntimeException("Unsupported compiled SCML project version: " + version
+					+ ", expected " + SCMLCompiler.VERSION + ", compile the project again");
+
+		SCMLProject project = new SCMLProject();
+
+		String[] strings = new String[buffer.getInt()];
+		byte[] utf = new byte[64];
+
+		for(int i = 0; i < strings.length; i++)
+		{
+			int length = buffer.getInt();
+
+			if(length > utf.length)
+				utf = new byte[Math.max(length, utf.length * 2)];
+
+			buffer.get(utf, 0, length); //mapped buffers have no array to decode from
+			strings[i] = new String(utf, 0, length, StandardCharsets.UTF_8);
+		}
+
+		TextureSpriteDrawable[] assets = new TextureSpriteDrawable[buffer.getInt()];
+
+		for(int i = 0; i < assets.length; i++)
+		{
+			int key = buffer.getInt();
+			int name = buffer.getInt();
+			float pivotX = buffer.getFloat();
+			float pivotY = buffer.getFloat();
+
+			String regionName = getString(strings, name);
+
+			assets[i] = SCMLReader.createAsset(regionName != null ? atlas : null, regionName, pivotX, pivotY);
+
+			project.putAsset(key >> 16, key & 0xFFFF, regionName, assets[i]);
+		}
+
+		CurveType[] types = CurveType.values();
+		Curve[] curves = new Curve[buffer.getInt()];
+
+		for(int i = 0; i < curves.length; i++)
+			curves[i] = new Curve(types[buffer.get()], buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+
+		int entities = buffer.getInt();
+
+		for(int i = 0; i < entities; i++)
+		{
+			EntityData entity = new EntityData(getString(strings, buffer.getInt()));
+			int animations = buffer.getInt();
+
+			for(int j = 0; j < animations; j++)
+				entity.getAnimations().add(readAnimation(buffer, strings, assets, curves));
+
+			project.getSourceEntities().add(entity);
+		}
+
+		return project;
+	}
+
+	private AnimationData readAnimation(ByteBuffer buffer, String[] strings, TextureSpriteDrawable[] assets, Curve[] curves)
+	{
+		String name = getString(strings, buffer.getInt());
+		int length = buffer.getInt();
+		boolean looping = buffer.get() != 0;
+
+		int timelineCount = buffer.getInt();
+		Array<Timeline> timelines = new Array<>(timelineCount);
+
+		for(int i = 0; i < timelineCount; i++)
+		{
+			int id = buffer.getInt();
+			String timelineName = getString(strings, buffer.getInt());
+			boolean sprite = buffer.get() != 0;
+			int zIndex = buffer.getInt();
+
+			int keyCount = buffer.getInt();
+			Array<TimelineKey> keys = new Array<>(keyCount);
+
+			for(int j = 0; j < keyCount; j++)
+				keys.add(readTimelineKey(buffer, assets, curves));
+
+			timelines.add(sprite ? new SpriteTimeline(id, timelineName, keys, zIndex) : new Timeline(id, timelineName, keys));
+		}
+
+		int mainlineKeys = buffer.getInt();
+		Mainline mainline = new Mainline(mainlineKeys);
+
+		for(int i = 0; i < mainlineKeys; i++)
+		{
+			int time = buffer.getInt();
+			Curve curve = curves[buffer.getInt()];
+			int refCount = buffer.getInt();
+
+			//timeline, key and parent of each reference, parents being resolved once they are all read
+			int[] refData = new int[refCount * 3];
+			for(int j = 0; j < refData.length; j++)
+				refData[j] = buffer.getInt();
+
+			ObjectRef[] resolved = new ObjectRef[refCount];
+			Array<ObjectRef> refs = new Array<>(refCount);
+
+			for(int j = 0; j < refCount; j++)
+				refs.add(resolveRef(j, refData, resolved, 0));
+
+			mainline.getKeys().add(new MainlineKey(time, curve, refs));
+		}
+
+		return new AnimationData(name, length, looping, mainline, timelines);
+	}
+
+	/**
+	 * Creates the object reference at the specified index, creating its parents first, wherever they are in the key
+	 *
+	 * @param index index of the reference in the key
+	 * @param refData timeline, key and parent index of each reference of the key
+	 * @param resolved references already created, by index
+	 * @param depth amount of children of the reference being created, to detect cycles
+	 * @return the object reference
+	 */
+	private static ObjectRef resolveRef(int index, int[] refData, ObjectRef[] resolved, int depth)
+	{
+		if(resolved[index] != null)
+			return resolved[index];
+
+		if(depth >= resolved.length)
+			throw new GdxRuntimeException("Cycle in the parents of the object references of a mainline key");
+
+		int parent = refData[index * 3 + 2];
+		ObjectRef parentRef = parent != -1 ? resolveRef(parent, refData, resolved, depth + 1) : null;
+
+		return resolved[index] = new ObjectRef(refData[index * 3], refData[index * 3 + 1], parentRef);
+	}
+
+	private static TimelineKey readTimelineKey(ByteBuffer buffer, TextureSpriteDrawable[] assets, Curve[] curves)
+	{
+		TimelineKey key = new TimelineKey(buffer.getInt(), buffer.getInt(), curves[buffer.getInt()]);
+
+		byte type = buffer.get();
+
+		if(type == OBJECT_NONE)
+			return key;
+
+		Vector2 position = new Vector2(buffer.getFloat(), buffer.getFloat());
+		Vector2 scale = new Vector2(buffer.getFloat(), buffer.getFloat());
+		float angle = buffer.getFloat();
+
+		if(type == OBJECT_SPRITE)
+		{
+			float alpha = buffer.getFloat();
+			int asset = buffer.getInt();
+
+			key.setObject(new Sprite(asset != -1 ? assets[asset] : null, position, scale, angle, alpha));
+		}
+		else if(type == OBJECT_BONE)
+			key.setObject(new AnimatedPart(position, scale, angle));
+		else
+			throw new GdxRuntimeException("Unknown object type in compiled project: " + type);
+
+		return key;
+	}
+
+	private static String getString(String[] strings, int index)
+	{
+		return index != -1 ? strings[index] : null;
+	}
+
+	/**
+	 * @return the atlas the regions of the assets are found in, null if none was set
+	 */
+	public TextureAtlas getAtlas()
+	{
+		return atlas != null ? atlas.getAtlas() : null;
+	}
+
+	/**
+	 * Sets the atlas to find the regions of the assets in, indexing its regions
+	 *
+	 * @param atlas atlas of the projects to load
+	 */
+	public void setAtlas(TextureAtlas atlas)
+	{
+		this.atlas = atlas != null ? new AtlasIndex(atlas) : null;
+	}
+}
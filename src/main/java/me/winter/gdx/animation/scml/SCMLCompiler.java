@@ -0,0 +1,334 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import me.winter.gdx.animation.AnimatedPart;
+import me.winter.gdx.animation.AnimationData;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.SpriteTimeline;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.TimelineKey;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.math.Curve;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Compiles an {@link SCMLProject} into a compact binary format, read back by {@link CompiledSCMLReader} without
+ * parsing any text. Meant to be run offline, once per export of the project.
+ * <p>
+ * The format is big-endian and versioned by {@link #VERSION}. After the magic number and version come a table of the
+ * strings used by the project, a table of its assets, a table of its distinct curves, then its entities. Keys refer to
+ * strings, assets and curves by their index in the tables. Each animation holds its timelines and its mainline, its
+ * bounds being computed from them when loading.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class SCMLCompiler
+{
+	/**
+	 * First bytes of a compiled project: "GDXA"
+	 */
+	public static final int MAGIC = 0x47445841;
+
+	/**
+	 * Version of the format written, increased on every change of the format
+	 */
+	public static final int VERSION = 2;
+
+	static final byte OBJECT_NONE = 0, OBJECT_BONE = 1, OBJECT_SPRITE = 2;
+
+	private final Array<String> strings = new Array<>();
+	private final ObjectIntMap<String> stringIndices = new ObjectIntMap<>();
+
+	private final IdentityHashMap<SpriteDrawable, Integer> assetIndices = new IdentityHashMap<>();
+
+	private final Array<Curve> curves = new Array<>();
+	private final IdentityHashMap<Curve, Integer> curveIndices = new IdentityHashMap<>();
+
+	/**
+	 * Creates a new SCML compiler
+	 */
+	public SCMLCompiler() {}
+
+	/**
+	 * Compiles the specified project
+	 *
+	 * @param project project to compile
+	 * @return compiled project
+	 */
+	public byte[] compile(SCMLProject project)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try
+		{
+			compile(project, bytes);
+		}
+		catch(IOException ex)
+		{
+			throw new RuntimeException(ex); //not thrown by byte arrays
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Compiles the specified project into the specified stream, without closing it
+	 *
+	 * @param project project to compile
+	 * @param stream stream to write to
+	 * @throws IOException if writing to the stream fails
+	 */
+	public void compile(SCMLProject project, OutputStream stream) throws IOException
+	{
+		strings.clear();
+		stringIndices.clear();
+		assetIndices.clear();
+		curves.clear();
+		curveIndices.clear();
+
+		IntMap<TextureSpriteDrawable> assets = project.getAssets();
+		IntMap.Keys assetKeys = assets.keys();
+		int[] keys = new int[assets.size];
+
+		for(int i = 0; assetKeys.hasNext; i++)
+			keys[i] = assetKeys.next();
+
+		Arrays.sort(keys); //written in a stable order
+
+		for(int key : keys)
+		{
+			TextureSpriteDrawable asset = assets.get(key);
+			assetIndices.put(asset, assetIndices.size());
+			intern(project.getAssetName(key >> 16, key & 0xFFFF));
+		}
+
+		for(EntityData entity : project.getSourceEntities())
+		{
+			intern(entity.getName());
+
+			for(AnimationData animation : entity.getAnimations())
+			{
+				intern(animation.getName());
+
+				for(Timeline timeline : animation.getTimelines())
+				{
+					intern(timeline.getName());
+
+					for(TimelineKey key : timeline.getKeys())
+						addCurve(key.getCurve());
+				}
+
+				for(MainlineKey key : animation.getMainline().getKeys())
+					addCurve(key.curve);
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream(stream);
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+
+		out.writeInt(strings.size);
+		for(String string : strings)
+		{
+			byte[] utf = string.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(utf.length);
+			out.write(utf);
+		}
+
+		out.writeInt(keys.length);
+		for(int key : keys)
+		{
+			TextureSpriteDrawable asset = assets.get(key);
+			String name = project.getAssetName(key >> 16, key & 0xFFFF);
+
+			out.writeInt(key);
+			out.writeInt(indexOf(name));
+			out.writeFloat(asset.getPivotX());
+			out.writeFloat(asset.getPivotY());
+		}
+
+		out.writeInt(curves.size);
+		for(Curve curve : curves)
+		{
+			out.writeByte(curve.getType().ordinal());
+			out.writeFloat(curve.constraints.c1);
+			out.writeFloat(curve.constraints.c2);
+			out.writeFloat(curve.constraints.c3);
+			out.writeFloat(curve.constraints.c4);
+		}
+
+		out.writeInt(project.getSourceEntities().size);
+		for(EntityData entity : project.getSourceEntities())
+		{
+			out.writeInt(indexOf(entity.getName()));
+			out.writeInt(entity.getAnimations().size);
+
+			for(AnimationData animation : entity.getAnimations())
+				writeAnimation(out, animation);
+		}
+
+		out.flush();
+	}
+
+	private void writeAnimation(DataOutputStream out, AnimationData animation) throws IOException
+	{
+		out.writeInt(indexOf(animation.getName()));
+		out.writeInt(animation.getLength());
+		out.writeBoolean(animation.isLooping());
+
+		Array<Timeline> timelines = animation.getTimelines();
+		out.writeInt(timelines.size);
+
+		for(Timeline timeline : timelines)
+		{
+			out.writeInt(timeline.getId());
+			out.writeInt(indexOf(timeline.getName()));
+			out.writeBoolean(timeline instanceof SpriteTimeline);
+			out.writeInt(timeline instanceof SpriteTimeline ? ((SpriteTimeline)timeline).getZIndex() : 0);
+			out.writeInt(timeline.getKeys().size);
+
+			for(TimelineKey key : timeline.getKeys())
+				writeTimelineKey(out, key);
+		}
+
+		Array<MainlineKey> mainlineKeys = animation.getMainline().getKeys();
+		out.writeInt(mainlineKeys.size);
+
+		for(MainlineKey key : mainlineKeys)
+		{
+			out.writeInt(key.time);
+			out.writeInt(curveIndices.get(key.curve));
+			out.writeInt(key.objectRefs.size);
+
+			for(ObjectRef ref : key.objectRefs)
+			{
+				out.writeInt(ref.timeline);
+				out.writeInt(ref.key);
+				out.writeInt(ref.parent != null ? key.objectRefs.indexOf(ref.parent, true) : -1);
+			}
+		}
+	}
+
+	private void writeTimelineKey(DataOutputStream out, TimelineKey key) throws IOException
+	{
+		out.writeInt(key.getTime());
+		out.writeInt(key.getSpin());
+		out.writeInt(curveIndices.get(key.getCurve()));
+
+		AnimatedPart object = key.getObject();
+
+		if(object == null)
+		{
+			out.writeByte(OBJECT_NONE);
+			return;
+		}
+
+		out.writeByte(object instanceof Sprite ? OBJECT_SPRITE : OBJECT_BONE);
+		out.writeFloat(object.getPosition().x);
+		out.writeFloat(object.getPosition().y);
+		out.writeFloat(object.getScale().x);
+		out.writeFloat(object.getScale().y);
+		out.writeFloat(object.getAngle());
+
+		if(object instanceof Sprite)
+		{
+			Sprite sprite = (Sprite)object;
+			SpriteDrawable drawable = sprite.getDrawable();
+			Integer asset = drawable != null ? assetIndices.get(drawable) : Integer.valueOf(-1);
+
+			if(asset == null)
+				throw new IllegalArgumentException("Sprites can only be compiled with drawables from the assets of their project");
+
+			out.writeFloat(sprite.getAlpha());
+			out.writeInt(asset);
+		}
+	}
+
+	private void intern(String string)
+	{
+		if(string != null && !stringIndices.containsKey(string))
+		{
+			stringIndices.put(string, strings.size);
+			strings.add(string);
+		}
+	}
+
+	private int indexOf(String string)
+	{
+		return string != null ? stringIndices.get(string, -1) : -1;
+	}
+
+	/**
+	 * Adds a curve to the table, once per distinct type and constraints
+	 */
+	private void addCurve(Curve curve)
+	{
+		if(curveIndices.containsKey(curve))
+			return;
+
+		for(int i = 0; i < curves.size; i++)
+		{
+			Curve other = curves.get(i);
+
+			if(other.getType() == curve.getType()
+					&& other.constraints.c1 == curve.constraints.c1
+					&& other.constraints.c2 == curve.constraints.c2
+					&& other.constraints.c3 == curve.constraints.c3
+					&& other.constraints.c4 == curve.constraints.c4)
+			{
+				curveIndices.put(curve, i);
+				return;
+			}
+		}
+
+		curveIndices.put(curve, curves.size);
+		curves.add(curve);
+	}
+
+	/**
+	 * Compiles an SCML file. Assets are compiled by the name of their region, looked up in the atlas when loading.
+	 *
+	 * @param args path of the SCML file to compile and path of the compiled file to write
+	 * @throws IOException if reading or writing fails
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if(args.length != 2)
+		{
+			System.err.println("Usage: SCMLCompiler <input.scml> <output>");
+			System.exit(1);
+		}
+
+		SCMLProject project;
+
+		try(InputStream input = new FileInputStream(args[0]))
+		{
+			project = new SCMLStreamReader().load(input);
+		}
+
+		try(OutputStream output = new BufferedOutputStream(new FileOutputStream(args[1])))
+		{
+			new SCMLCompiler().compile(project, output);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package me.winter.gdx.animation.scml;
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AssetLoader;
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.files.FileHandle;
@@ -19,8 +20,6 @@ import me.winter.gdx.animation.scml.SCMLLoader.SCMLProjectParameters;
  */
 public class SCMLLoader extends SynchronousAssetLoader<SCMLProject, SCMLProjectParameters>
 {
-	private SCMLReader reader = new SCMLReader();
-
 	public SCMLLoader(FileHandleResolver resolver)
 	{
 		super(resolver);
@@ -29,15 +28,30 @@ public class SCMLLoader extends SynchronousAssetLoader<SCMLProject, SCMLProjectP
 	@Override
 	public SCMLProject load(AssetManager assetManager, String fileName, FileHandle file, SCMLProjectParameters params)
 	{
-		reader.setAtlas(assetManager.get(params.textureAtlasName));
+		SCMLReader reader = new SCMLReader(); //one per load, each project having its own atlas
+		reader.setAtlas(assetManager.get(params.textureAtlasName, TextureAtlas.class));
 		return reader.load(file.read());
 	}
 
 	@Override
+	@SuppressWarnings("rawtypes") //signature of AssetLoader
 	public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, SCMLProjectParameters params)
 	{
-		AssetDescriptor descriptor = new AssetDescriptor<>(params.textureAtlasName, TextureAtlas.class);
-		Array<AssetDescriptor> array = new Array<>();
+		return getAtlasDependency(params);
+	}
+
+	/**
+	 * Returns the atlas of the project as only dependency, in the raw array {@link AssetLoader#getDependencies} returns
+	 * in this version of libGDX
+	 *
+	 * @param params parameters of the project to load
+	 * @return the atlas of the project as only dependency
+	 */
+	@SuppressWarnings("rawtypes")
+	static Array<AssetDescriptor> getAtlasDependency(SCMLProjectParameters params)
+	{
+		AssetDescriptor<TextureAtlas> descriptor = new AssetDescriptor<>(params.textureAtlasName, TextureAtlas.class);
+		Array<AssetDescriptor> array = new Array<>(1);
 		array.add(descriptor);
 		return array;
 	}
@@ -4,6 +4,7 @@ package me.winter.gdx.animation.scml;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
 import me.winter.gdx.animation.Entity;
+import me.winter.gdx.animation.EntityData;
 import me.winter.gdx.animation.EntityNotFoundException;
 import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
 
@@ -15,16 +16,18 @@ import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
 public class SCMLProject
 {
 	private final IntMap<TextureSpriteDrawable> assets;
-	private final Array<Entity> entities;
+	private final IntMap<String> assetNames; //name of the region of each asset in its atlas
+	private final Array<EntityData> entities;
 
 	public SCMLProject()
 	{
 		this.assets = new IntMap<>();
+		this.assetNames = new IntMap<>();
 		this.entities = new Array<>();
 	}
 
 	/**
-	 * Returns an copy of the requested SpriterEntity
+	 * Returns a new instance of the requested SpriterEntity, sharing its animation data with the other instances
 	 *
 	 * @param name the name of the entity
 	 * @return the entity with the given name
@@ -33,7 +36,7 @@ public class SCMLProject
 	 */
 	public Entity getEntity(String name)
 	{
-		for(Entity entity : entities)
+		for(EntityData entity : entities)
 			if(entity.getName().equals(name))
 				return new Entity(entity);
 
@@ -45,12 +48,44 @@ public class SCMLProject
 		assets.put(getAssetKey(folderID, fileID), asset);
 	}
 
+	/**
+	 * Puts an asset along with the name of its region in the atlas it was found in
+	 *
+	 * @param folderID id of the folder of the asset
+	 * @param fileID id of the file of the asset in its folder
+	 * @param name name of the region of the asset
+	 * @param asset asset to put
+	 */
+	public void putAsset(int folderID, int fileID, String name, TextureSpriteDrawable asset)
+	{
+		putAsset(folderID, fileID, asset);
+		assetNames.put(getAssetKey(folderID, fileID), name);
+	}
+
 	public TextureSpriteDrawable getAsset(int folderID, int fileID)
 	{
 		return assets.get(getAssetKey(folderID, fileID));
 	}
 
-	public Array<Entity> getSourceEntities()
+	/**
+	 * @param folderID id of the folder of the asset
+	 * @param fileID id of the file of the asset in its folder
+	 * @return name of the region of the asset, null if unknown
+	 */
+	public String getAssetName(int folderID, int fileID)
+	{
+		return assetNames.get(getAssetKey(folderID, fileID));
+	}
+
+	/**
+	 * @return assets of this project by {@link #getAssetKey(int, int) asset key}
+	 */
+	public IntMap<TextureSpriteDrawable> getAssets()
+	{
+		return assets;
+	}
+
+	public Array<EntityData> getSourceEntities()
 	{
 		return entities;
 	}
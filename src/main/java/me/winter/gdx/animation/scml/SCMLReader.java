@@ -1,14 +1,16 @@
 package me.winter.gdx.animation.scml;
 
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntIntMap;
 import com.badlogic.gdx.utils.XmlReader;
 import com.badlogic.gdx.utils.XmlReader.Element;
 import me.winter.gdx.animation.AnimatedPart;
-import me.winter.gdx.animation.Animation;
-import me.winter.gdx.animation.Entity;
+import me.winter.gdx.animation.AnimationData;
+import me.winter.gdx.animation.EntityData;
 import me.winter.gdx.animation.Mainline;
 import me.winter.gdx.animation.MainlineKey;
 import me.winter.gdx.animation.ObjectRef;
@@ -22,21 +24,22 @@ import me.winter.gdx.animation.math.Curve.CurveType;
 
 import java.io.InputStream;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
- * File parser for .SCML files (spriter format)
+ * File parser for .SCML files (spriter format). The state of a load is kept apart from the reader, so a single reader
+ * can load many files at once on different threads.
  *
  * @author Alexander Winter
  */
 public class SCMLReader
 {
-	private TextureAtlas atlas;
-	private SCMLProject currentProject;
-
-	/**
-	 * Since zIndex are for timeline but stored in a different section of the xml, they need to be temporarily mapped while loading
-	 */
-	private ObjectMap<Integer, Integer> zIndexTempMap = new ObjectMap<>();
+	private AtlasIndex atlas;
+	private ForkJoinPool animationPool; //null to build the animations on the loading thread
 
 	/**
 	 * Creates a new SCML reader
@@ -75,107 +78,165 @@ public class SCMLReader
 	 */
 	public SCMLProject load(Element root)
 	{
-		this.currentProject = new SCMLProject();
+		Context context = new Context(atlas, animationPool);
+
+		loadAssets(context, root.getChildrenByName("folder"));
+		loadEntities(context, root.getChildrenByName("entity"));
 
-		loadAssets(root.getChildrenByName("folder"));
-		loadEntities(root.getChildrenByName("entity"));
+		context.joinAnimations();
 
-		return currentProject;
+		return context.project;
 	}
 
 	/**
-	 * Iterates through the given folders and adds them to the current {@link SCMLProject} object.
+	 * Loads the specified SCML files in parallel on the specified executor, sharing the atlas of this reader. Returns
+	 * once all of them are loaded.
 	 *
+	 * @param files SCML files to load
+	 * @param executor executor to load the files on
+	 * @return the built projects, in the order of their files
+	 * @throws GdxRuntimeException if a file could not be loaded
+	 */
+	public Array<SCMLProject> loadAll(Array<FileHandle> files, Executor executor)
+	{
+		Array<CompletableFuture<SCMLProject>> loads = new Array<>(files.size);
+
+		for(int i = 0; i < files.size; i++)
+		{
+			FileHandle file = files.get(i);
+			loads.add(CompletableFuture.supplyAsync(() -> load(file.read()), executor));
+		}
+
+		Array<SCMLProject> projects = new Array<>(files.size);
+
+		for(int i = 0; i < loads.size; i++)
+		{
+			try
+			{
+				projects.add(loads.get(i).join());
+			}
+			catch(CompletionException ex)
+			{
+				throw new GdxRuntimeException("Couldn't load SCML file: " + files.get(i), ex.getCause());
+			}
+		}
+
+		return projects;
+	}
+
+	/**
+	 * Iterates through the given folders and adds them to the {@link SCMLProject} object being loaded.
+	 *
+	 * @param context context of the load
 	 * @param folders a list of folders to load
 	 */
-	private void loadAssets(Array<Element> folders)
+	private void loadAssets(Context context, Array<Element> folders)
 	{
 		for(Element folder : folders)
 		{
 			for(Element file : folder.getChildrenByName("file"))
 			{
-				String name = file.get("name");
+				String name = getRegionName(file.get("name"));
 
-				String[] parts = name.split("/");
-				name = parts[parts.length - 1].replace(".png", "");
-
-				TextureSpriteDrawable asset = new TextureSpriteDrawable(
-						atlas.findRegion(name),
+				TextureSpriteDrawable asset = createAsset(context.atlas,
+						name,
 						file.getFloat("pivot_x", 0f),
 						file.getFloat("pivot_y", 1f));
 
-				currentProject.putAsset(folder.getInt("id"), file.getInt("id"), asset);
+				context.project.putAsset(folder.getInt("id"), file.getInt("id"), name, asset);
 			}
 		}
 	}
 
 	/**
-	 * Iterates through the given entities and adds them to the current {@link SCMLProject} object.
+	 * Iterates through the given entities and adds them to the {@link SCMLProject} object being loaded.
 	 *
+	 * @param context context of the load
 	 * @param entities a list of entities to load
 	 */
-	private void loadEntities(Array<Element> entities)
+	private void loadEntities(Context context, Array<Element> entities)
 	{
 		for(Element xmlElement : entities)
 		{
-			Entity entity = new Entity(xmlElement.get("name"));
+			EntityData entity = new EntityData(xmlElement.get("name"));
 
-			loadAnimations(xmlElement.getChildrenByName("animation"), entity);
+			loadAnimations(context, xmlElement.getChildrenByName("animation"), entity);
 
-			currentProject.getSourceEntities().add(entity);
+			context.project.getSourceEntities().add(entity);
 		}
 	}
 
 	/**
-	 * Iterates through the given animations and adds them to the given {@link Entity} object.
+	 * Iterates through the given animations and adds them to the given {@link EntityData} object. With an animation
+	 * pool, the animations are only submitted to it and added once the whole project is read.
 	 *
+	 * @param context context of the load
 	 * @param animations a list of animations to load
 	 * @param entity the entity containing the animations maps
 	 */
-	private void loadAnimations(Array<Element> animations, Entity entity)
+	private void loadAnimations(Context context, Array<Element> animations, EntityData entity)
 	{
 		for(Element xmlElement : animations)
 		{
-			Array<Element> xmlTimelines = xmlElement.getChildrenByName("timeline");
-			Element xmlMainline = xmlElement.getChildByName("mainline");
+			if(context.pool != null)
+			{
+				context.owners.add(entity);
+				context.animations.add(context.pool.submit(() -> loadAnimation(context, xmlElement)));
+			}
+			else
+				entity.getAnimations().add(loadAnimation(context, xmlElement));
+		}
+	}
 
-			Array<Element> mainlineKeys = xmlMainline.getChildrenByName("key");
+	/**
+	 * Builds an animation. Only reads the context, so animations can be built in parallel.
+	 *
+	 * @param context context of the load
+	 * @param xmlElement the animation as xml
+	 * @return the built animation
+	 */
+	private AnimationData loadAnimation(Context context, Element xmlElement)
+	{
+		Array<Element> xmlTimelines = xmlElement.getChildrenByName("timeline");
+		Element xmlMainline = xmlElement.getChildByName("mainline");
 
-			Mainline mainline = new Mainline(mainlineKeys.size);
-			Array<Timeline> timelines = new Array<>(xmlTimelines.size);
+		Array<Element> mainlineKeys = xmlMainline.getChildrenByName("key");
 
-			loadTimelines(mainlineKeys, xmlTimelines, mainline, timelines);
+		Mainline mainline = new Mainline(mainlineKeys.size);
+		Array<Timeline> timelines = new Array<>(xmlTimelines.size);
 
-			//in spriter, you can place a key both at 0 and at the length for a total possible keys of length + 1,
-			//to handle this, we assume the actual length is +1 the one displayed in spriter
-			Animation animation = new Animation(xmlElement.get("name"),
-					xmlElement.getInt("length") + 1,
-					xmlElement.getBoolean("looping", true),
-					mainline,
-					timelines);
+		loadTimelines(context, mainlineKeys, xmlTimelines, mainline, timelines);
 
-			entity.getAnimations().add(animation);
-		}
+		return createAnimation(xmlElement.get("name"),
+				xmlElement.getInt("length"),
+				xmlElement.getBoolean("looping", true),
+				mainline,
+				timelines);
 	}
 
 	/**
 	 * Loads all the timelines of the animation and the mainline
 	 * mainline contains information about the graph and zIndexes
 	 *
+	 * @param context context of the load
 	 * @param xmlMainlineKeys a list of mainline keys
 	 * @param mainline the mainline
 	 */
-	private void loadTimelines(Array<Element> xmlMainlineKeys, Array<Element> xmlTimelines, Mainline mainline, Array<Timeline> timelines)
+	private void loadTimelines(Context context, Array<Element> xmlMainlineKeys, Array<Element> xmlTimelines, Mainline mainline, Array<Timeline> timelines)
 	{
-		zIndexTempMap.clear();
+		//since zIndex are for timeline but stored in a different section of the xml, they need to be temporarily mapped while loading
+		IntIntMap zIndices = new IntIntMap();
 
 		for(Element xmlElement : xmlMainlineKeys)
 		{
 			Array<Element> xmlObjectRefs = xmlElement.getChildrenByName("object_ref");
 			Array<Element> xmlBoneRefs = xmlElement.getChildrenByName("bone_ref");
 
-			Curve curve = new Curve(CurveType.valueOf(xmlElement.get("curve_type", "linear").toUpperCase(Locale.ENGLISH)));
-			curve.constraints.set(xmlElement.getFloat("c1", 0f), xmlElement.getFloat("c2", 0f), xmlElement.getFloat("c3", 0f), xmlElement.getFloat("c4", 0f));
+			Curve curve = createCurve(xmlElement.get("curve_type", "linear"),
+					xmlElement.getFloat("c1", 0f),
+					xmlElement.getFloat("c2", 0f),
+					xmlElement.getFloat("c3", 0f),
+					xmlElement.getFloat("c4", 0f));
 
 			Array<ObjectRef> objectRefs = new Array<>(xmlBoneRefs.size + xmlObjectRefs.size);
 
@@ -196,7 +257,7 @@ public class SCMLReader
 
 				objectRefs.add(new ObjectRef(timeline, xmlObjectRef.getInt("key"), parent));
 
-				zIndexTempMap.put(timeline, xmlObjectRef.getInt("z_index", 0));
+				zIndices.put(timeline, xmlObjectRef.getInt("z_index", 0));
 			}
 
 
@@ -205,37 +266,31 @@ public class SCMLReader
 
 		for(Element xmlElement : xmlTimelines)
 		{
-			Array<TimelineKey> timelineKeys = loadTimelineKeys(xmlElement.getChildrenByName("key"));
-
-			int id = xmlElement.getInt("id");
-			String name = xmlElement.get("name");
-
-			if(timelineKeys.size == 0 || !(timelineKeys.get(0).getObject() instanceof Sprite))
-				timelines.add(new Timeline(id, name, timelineKeys));
-			else
-			{
-				int timelineId = xmlElement.getInt("id", -1);
-
-				timelines.add(new SpriteTimeline(id, name, timelineKeys, zIndexTempMap.get(timelineId)));
-			}
+			Array<TimelineKey> timelineKeys = loadTimelineKeys(context, xmlElement.getChildrenByName("key"));
 
+			timelines.add(createTimeline(xmlElement.getInt("id"), xmlElement.get("name"), timelineKeys, zIndices));
 		}
 	}
+
 	/**
 	 * Iterates through the given timeline keys
 	 *
+	 * @param context context of the load
 	 * @param keys a list if timeline keys as xml
 	 *
 	 * @return array of timeline keys
 	 */
-	private Array<TimelineKey> loadTimelineKeys(Array<Element> keys)
+	private Array<TimelineKey> loadTimelineKeys(Context context, Array<Element> keys)
 	{
 		Array<TimelineKey> timelineKeys = new Array<>(keys.size);
 
 		for(Element xmlKey : keys)
 		{
-			Curve curve = new Curve(CurveType.valueOf(xmlKey.get("curve_type", "linear").toUpperCase(Locale.ENGLISH)));
-			curve.constraints.set(xmlKey.getFloat("c1", 0f), xmlKey.getFloat("c2", 0f), xmlKey.getFloat("c3", 0f), xmlKey.getFloat("c4", 0f));
+			Curve curve = createCurve(xmlKey.get("curve_type", "linear"),
+					xmlKey.getFloat("c1", 0f),
+					xmlKey.getFloat("c2", 0f),
+					xmlKey.getFloat("c3", 0f),
+					xmlKey.getFloat("c4", 0f));
 
 			TimelineKey key = new TimelineKey(xmlKey.getInt("time", 0), xmlKey.getInt("spin", 1), curve);
 			Element obj = xmlKey.getChild(0); //each key tag contains a single object or bone tag
@@ -248,7 +303,7 @@ public class SCMLReader
 
 			if(type.equalsIgnoreCase("object") || type.equalsIgnoreCase("sprite"))
 			{
-				TextureSpriteDrawable asset = currentProject.getAsset(obj.getInt("folder"), obj.getInt("file")); //corresponding sprite
+				TextureSpriteDrawable asset = context.project.getAsset(obj.getInt("folder"), obj.getInt("file")); //corresponding sprite
 
 				float alpha = obj.getFloat("a", 1f);
 				key.setObject(new Sprite(asset, position, scale, angle, alpha));
@@ -263,14 +318,146 @@ public class SCMLReader
 		return timelineKeys;
 	}
 
+	/**
+	 * @param fileName name of a file, as in the SCML file
+	 * @return name of the region of the file, the name of the file without its folders and extension
+	 */
+	static String getRegionName(String fileName)
+	{
+		String[] parts = fileName.split("/");
+		return parts[parts.length - 1].replace(".png", "");
+	}
+
+	/**
+	 * Creates the asset of a file, finding its region in the specified atlas
+	 *
+	 * @param atlas index of the atlas holding the region of the file, null to create the asset without region
+	 * @param name name of the region of the file
+	 * @param pivotX horizontal pivot of the file
+	 * @param pivotY vertical pivot of the file
+	 * @return asset of the file
+	 */
+	static TextureSpriteDrawable createAsset(AtlasIndex atlas, String name, float pivotX, float pivotY)
+	{
+		return new TextureSpriteDrawable(atlas != null ? atlas.findRegion(name) : null, pivotX, pivotY);
+	}
+
+	/**
+	 * Creates the curve of a key
+	 *
+	 * @param type type of the curve, as in the SCML file
+	 * @param c1 first constraint
+	 * @param c2 second constraint
+	 * @param c3 third constraint
+	 * @param c4 fourth constraint
+	 * @return created curve
+	 */
+	static Curve createCurve(String type, float c1, float c2, float c3, float c4)
+	{
+		return new Curve(CurveType.valueOf(type.toUpperCase(Locale.ENGLISH)), c1, c2, c3, c4);
+	}
+
+	/**
+	 * Creates a timeline, a {@link SpriteTimeline} if its first key holds a sprite
+	 *
+	 * @param id id of the timeline
+	 * @param name name of the timeline
+	 * @param keys keys of the timeline
+	 * @param zIndices z-index of each sprite timeline by id, from the mainline
+	 * @return created timeline
+	 */
+	static Timeline createTimeline(int id, String name, Array<TimelineKey> keys, IntIntMap zIndices)
+	{
+		if(keys.size == 0 || !(keys.get(0).getObject() instanceof Sprite))
+			return new Timeline(id, name, keys);
+
+		return new SpriteTimeline(id, name, keys, zIndices.get(id, 0));
+	}
+
+	/**
+	 * Creates an animation, computing its bounds
+	 *
+	 * @param name name of the animation
+	 * @param length length of the animation, as in the SCML file
+	 * @param looping true if the animation loops
+	 * @param mainline mainline of the animation
+	 * @param timelines timelines of the animation
+	 * @return created animation
+	 */
+	static AnimationData createAnimation(String name, int length, boolean looping, Mainline mainline, Array<Timeline> timelines)
+	{
+		//in spriter, you can place a key both at 0 and at the length for a total possible keys of length + 1,
+		//to handle this, we assume the actual length is +1 the one displayed in spriter
+		return new AnimationData(name, length + 1, looping, mainline, timelines);
+	}
+
 	public TextureAtlas getAtlas()
 	{
-		return atlas;
+		return atlas != null ? atlas.getAtlas() : null;
 	}
 
+	/**
+	 * Sets the atlas to find the regions of the assets in, indexing its regions. Must not be called while loading.
+	 *
+	 * @param atlas atlas of the projects to load
+	 */
 	public void setAtlas(TextureAtlas atlas)
 	{
-		this.atlas = atlas;
+		this.atlas = atlas != null ? new AtlasIndex(atlas) : null;
 	}
-}
 
+	public ForkJoinPool getAnimationPool()
+	{
+		return animationPool;
+	}
+
+	/**
+	 * Sets the pool to build the animations of a project on, in parallel, once its assets are read. Each task builds
+	 * an animation along with its bounds. Animations are added to their entities in the order of the file whatever the
+	 * order they are built in. Must not be called while loading.
+	 *
+	 * @param animationPool pool to build the animations on, null to build them on the loading thread
+	 */
+	public void setAnimationPool(ForkJoinPool animationPool)
+	{
+		this.animationPool = animationPool;
+	}
+
+	/**
+	 * State of a single load, so that a reader can load many projects at once
+	 */
+	private static class Context
+	{
+		private final SCMLProject project = new SCMLProject();
+		private final AtlasIndex atlas; //atlas of the reader when the load started
+		private final ForkJoinPool pool; //animation pool of the reader when the load started
+
+		private final Array<ForkJoinTask<AnimationData>> animations = new Array<>(); //animations being built, in file order
+		private final Array<EntityData> owners = new Array<>(); //entity of each animation being built
+
+		private Context(AtlasIndex atlas, ForkJoinPool pool)
+		{
+			this.atlas = atlas;
+			this.pool = pool;
+		}
+
+		/**
+		 * Waits for the animations being built and adds them to their entities, in the order they were submitted
+		 */
+		private void joinAnimations()
+		{
+			try
+			{
+				for(int i = 0; i < animations.size; i++)
+					owners.get(i).getAnimations().add(animations.get(i).join());
+			}
+			catch(RuntimeException ex)
+			{
+				for(int i = 0; i < animations.size; i++)
+					animations.get(i).cancel(false); //the project is lost, no need to build the rest
+
+				throw ex;
+			}
+		}
+	}
+}
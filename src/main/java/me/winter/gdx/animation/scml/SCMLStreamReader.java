@@ -0,0 +1,576 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import me.winter.gdx.animation.AnimatedPart;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.Mainline;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.TimelineKey;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.math.Curve;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming parser for .SCML files (spriter format). Builds the {@link SCMLProject} directly while scanning the input,
+ * without building its tree of elements, and gives the same project as {@link SCMLReader}.
+ * <p>
+ * The input is scanned incrementally through a buffer of {@value #BUFFER_SIZE} characters, so besides the project
+ * being built, a load only holds that buffer and the element being read, whatever the size of the document. Text
+ * content, comments, CDATA sections, processing instructions and doctypes are skipped, as the runtime does not use
+ * them.
+ * <p>
+ * Elements are expected in the order Spriter writes them: folders before entities, and the mainline of an animation
+ * before its timelines. Elements the runtime does not use are skipped.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class SCMLStreamReader
+{
+	private static final int BUFFER_SIZE = 8192;
+
+	private AtlasIndex atlas;
+
+	/**
+	 * Creates a new streaming SCML reader
+	 */
+	public SCMLStreamReader() {}
+
+	/**
+	 * Parses the SCML object saved in the given xml string and returns the built data object.
+	 *
+	 * @param xml the xml string
+	 * @return the built data
+	 */
+	public SCMLProject load(String xml)
+	{
+		return load(new StringReader(xml));
+	}
+
+	/**
+	 * Parses the SCML objects saved in the given stream, read as UTF-8, and returns the built data object. The stream
+	 * is closed.
+	 *
+	 * @param stream the stream from the SCML file
+	 * @return the built data
+	 */
+	public SCMLProject load(InputStream stream)
+	{
+		return load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Parses the SCML objects read from the given reader and returns the built data object. The reader is closed.
+	 *
+	 * @param reader the reader of the SCML file
+	 * @return the built data
+	 */
+	public SCMLProject load(Reader reader)
+	{
+		Parser parser = new Parser(reader);
+
+		try
+		{
+			parser.parse();
+		}
+		catch(IOException ex)
+		{
+			throw new GdxRuntimeException("Couldn't read SCML file", ex);
+		}
+		finally
+		{
+			StreamUtils.closeQuietly(reader);
+		}
+
+		return parser.project;
+	}
+
+	public TextureAtlas getAtlas()
+	{
+		return atlas != null ? atlas.getAtlas() : null;
+	}
+
+	/**
+	 * Sets the atlas to find the regions of the assets in, indexing its regions
+	 *
+	 * @param atlas atlas of the projects to load
+	 */
+	public void setAtlas(TextureAtlas atlas)
+	{
+		this.atlas = atlas != null ? new AtlasIndex(atlas) : null;
+	}
+
+	/**
+	 * Builds a project from the elements of a single parse. Elements are handled once all their attributes are read,
+	 * which is when their first child opens or when they close.
+	 */
+	private class Parser
+	{
+		private final Reader input;
+		private final char[] buffer = new char[BUFFER_SIZE];
+		private int position, limit; //next character to read and end of the characters read in the buffer
+		private final StringBuilder token = new StringBuilder(); //name or value being read
+
+		private final SCMLProject project = new SCMLProject();
+		private final AtlasIndex atlas = SCMLStreamReader.this.atlas; //atlas of the reader when the load started
+
+		private final Array<String> path = new Array<>(); //names of the open elements, the root first
+		private final ObjectMap<String, String> attributes = new ObjectMap<>(); //attributes of the last element opened
+		private boolean handled = true; //false until the last element opened is handled
+
+		private int folderId;
+
+		private EntityData entity;
+
+		private String animationName;
+		private int animationLength;
+		private boolean animationLooping;
+		private Mainline mainline;
+		private Array<Timeline> timelines;
+		private final IntIntMap zIndices = new IntIntMap();
+
+		private int mainlineKeyTime;
+		private Curve mainlineKeyCurve;
+		private Array<ObjectRef> objectRefs; //bone references, object references being added when the key closes
+		private final IntArray objects = new IntArray(); //parent, timeline and key of each object reference
+
+		private int timelineId;
+		private String timelineName;
+		private Array<TimelineKey> timelineKeys;
+		private TimelineKey timelineKey;
+		private boolean timelineKeyRead; //true once the object of the timeline key is read
+
+		private Parser(Reader input)
+		{
+			this.input = input;
+		}
+
+		/**
+		 * Scans the whole input, reporting the elements to {@link #open(String)}, {@link #attribute(String, String)}
+		 * and {@link #close()} as they are read
+		 */
+		private void parse() throws IOException
+		{
+			int c;
+
+			while((c = read()) != -1)
+				if(c == '<')
+					readTag();
+
+			if(path.size > 0)
+				throw new GdxRuntimeException("Unexpected end of SCML file, unclosed element: " + path.peek());
+		}
+
+		/**
+		 * Reads a tag, its opening '&lt;' already read
+		 */
+		private void readTag() throws IOException
+		{
+			int c = read();
+
+			if(c == '?')
+				skipPast('?', 1);
+			else if(c == '!')
+			{
+				if(peek() == '-')
+					skipPast('-', 2); //comment
+				else if(peek() == '[')
+					skipPast(']', 2); //CDATA section
+				else
+					skipPast('>', 0); //doctype
+			}
+			else if(c == '/')
+			{
+				String name = readName(read());
+
+				if(path.size == 0 || !path.peek().equals(name))
+					throw new GdxRuntimeException("Unexpected closing tag in SCML file: " + name);
+
+				expect(skipWhitespace(), '>');
+				close();
+			}
+			else
+			{
+				open(readName(c));
+
+				while(true)
+				{
+					c = skipWhitespace();
+
+					if(c == '>')
+						return;
+
+					if(c == '/')
+					{
+						expect(read(), '>');
+						close();
+						return;
+					}
+
+					String name = readName(c);
+					expect(skipWhitespace(), '=');
+					attribute(name, readValue(skipWhitespace()));
+				}
+			}
+		}
+
+		/**
+		 * Reads a name starting with the specified character, already read, leaving the character following it unread
+		 */
+		private String readName(int c) throws IOException
+		{
+			if(!isNameCharacter(c))
+				throw new GdxRuntimeException("Expected a name in SCML file" + (path.size > 0 ? " in element: " + path.peek() : ""));
+
+			token.setLength(0);
+			token.append((char)c);
+
+			while(isNameCharacter(c = peek()))
+			{
+				token.append((char)c);
+				position++;
+			}
+
+			return token.toString();
+		}
+
+		private boolean isNameCharacter(int c)
+		{
+			return c != -1 && !isWhitespace(c) && c != '=' && c != '>' && c != '/';
+		}
+
+		/**
+		 * Reads a quoted attribute value, its opening quote being the specified character. Entities are kept as written,
+		 * as {@link com.badlogic.gdx.utils.XmlReader} does.
+		 */
+		private String readValue(int quote) throws IOException
+		{
+			if(quote != '"' && quote != '\'')
+				throw new GdxRuntimeException("Expected a quoted value in SCML file in element: " + path.peek());
+
+			token.setLength(0);
+
+			int c;
+
+			while((c = read()) != quote)
+			{
+				if(c == -1)
+					throw new GdxRuntimeException("Unexpected end of SCML file in element: " + path.peek());
+
+				token.append((char)c);
+			}
+
+			return token.toString();
+		}
+
+		/**
+		 * Skips characters up to and including the first '&gt;' following the specified character repeated at least the
+		 * specified amount of times
+		 */
+		private void skipPast(char repeated, int count) throws IOException
+		{
+			int repetitions = 0;
+
+			while(true)
+			{
+				int c = read();
+
+				if(c == -1)
+					throw new GdxRuntimeException("Unexpected end of SCML file, unclosed markup");
+
+				if(c == '>' && repetitions >= count)
+					return;
+
+				repetitions = c == repeated ? repetitions + 1 : 0;
+			}
+		}
+
+		private void expect(int c, char expected)
+		{
+			if(c != expected)
+				throw new GdxRuntimeException("Expected '" + expected + "' in SCML file" + (path.size > 0 ? " in element: " + path.peek() : ""));
+		}
+
+		/**
+		 * @return first character that is not whitespace, read
+		 */
+		private int skipWhitespace() throws IOException
+		{
+			int c;
+
+			do
+				c = read();
+			while(c != -1 && isWhitespace(c));
+
+			return c;
+		}
+
+		private boolean isWhitespace(int c)
+		{
+			return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+		}
+
+		/**
+		 * @return next character without reading it, -1 at the end of the input
+		 */
+		private int peek() throws IOException
+		{
+			if(position == limit)
+			{
+				position = 0;
+				limit = input.read(buffer, 0, buffer.length);
+
+				if(limit <= 0)
+				{
+					limit = 0;
+					return -1;
+				}
+			}
+
+			return buffer[position];
+		}
+
+		/**
+		 * @return next character, -1 at the end of the input
+		 */
+		private int read() throws IOException
+		{
+			int c = peek();
+
+			if(c != -1)
+				position++;
+
+			return c;
+		}
+
+		private void open(String name)
+		{
+			handle();
+
+			path.add(name);
+			attributes.clear();
+			handled = false;
+		}
+
+		private void attribute(String name, String value)
+		{
+			attributes.put(name, value);
+		}
+
+		private void close()
+		{
+			handle();
+
+			if(is(1, "entity", null))
+				project.getSourceEntities().add(entity);
+			else if(is(2, "animation", "entity"))
+				entity.getAnimations().add(SCMLReader.createAnimation(animationName, animationLength, animationLooping, mainline, timelines));
+			else if(is(4, "key", "mainline"))
+				closeMainlineKey();
+			else if(is(3, "timeline", "animation"))
+				timelines.add(SCMLReader.createTimeline(timelineId, timelineName, timelineKeys, zIndices));
+			else if(is(4, "key", "timeline"))
+				timelineKeys.add(timelineKey);
+
+			path.pop();
+		}
+
+		/**
+		 * Handles the last element opened, if not already handled
+		 */
+		private void handle()
+		{
+			if(handled)
+				return;
+
+			handled = true;
+
+			if(is(1, "folder", null))
+				folderId = getInt("id");
+			else if(is(2, "file", "folder"))
+			{
+				String name = SCMLReader.getRegionName(get("name"));
+
+				project.putAsset(folderId, getInt("id"), name, SCMLReader.createAsset(atlas,
+						name,
+						getFloat("pivot_x", 0f),
+						getFloat("pivot_y", 1f)));
+			}
+			else if(is(1, "entity", null))
+				entity = new EntityData(get("name"));
+			else if(is(2, "animation", "entity"))
+				openAnimation();
+			else if(is(4, "key", "mainline"))
+				openMainlineKey();
+			else if(is(5, "bone_ref", "key") && isMainlineKey())
+				objectRefs.add(new ObjectRef(getInt("timeline"), getInt("key"), getParent(getInt("parent", -1))));
+			else if(is(5, "object_ref", "key") && isMainlineKey())
+				openObjectRef();
+			else if(is(3, "timeline", "animation"))
+			{
+				timelineId = getInt("id");
+				timelineName = get("name");
+				timelineKeys = new Array<>();
+			}
+			else if(is(4, "key", "timeline"))
+				openTimelineKey();
+			else if(path.size == 6 && path.get(3).equals("timeline") && path.get(4).equals("key") && !timelineKeyRead)
+				readTimelineKeyObject(path.peek()); //each key tag contains a single object or bone tag
+		}
+
+		private void openAnimation()
+		{
+			animationName = get("name");
+			animationLength = getInt("length");
+			animationLooping = getBoolean("looping", true);
+
+			mainline = new Mainline(16);
+			timelines = new Array<>();
+			zIndices.clear();
+		}
+
+		private void openMainlineKey()
+		{
+			mainlineKeyTime = getInt("time", 0);
+			mainlineKeyCurve = readCurve();
+			objectRefs = new Array<>();
+			objects.clear();
+		}
+
+		private void openObjectRef()
+		{
+			int timeline = getInt("timeline");
+
+			objects.add(getInt("parent", -1));
+			objects.add(timeline);
+			objects.add(getInt("key"));
+
+			zIndices.put(timeline, getInt("z_index", 0));
+		}
+
+		private void closeMainlineKey()
+		{
+			//object references come after the bone references, whatever their order in the file
+			for(int i = 0; i < objects.size; i += 3)
+				objectRefs.add(new ObjectRef(objects.get(i + 1), objects.get(i + 2), getParent(objects.get(i))));
+
+			mainline.getKeys().add(new MainlineKey(mainlineKeyTime, mainlineKeyCurve, objectRefs));
+		}
+
+		private ObjectRef getParent(int parentId)
+		{
+			return parentId != -1 ? objectRefs.get(parentId) : null;
+		}
+
+		private void openTimelineKey()
+		{
+			timelineKey = new TimelineKey(getInt("time", 0), getInt("spin", 1), readCurve());
+			timelineKeyRead = false;
+		}
+
+		private void readTimelineKeyObject(String type)
+		{
+			timelineKeyRead = true;
+
+			Vector2 position = new Vector2(getFloat("x", 0f), getFloat("y", 0f));
+			Vector2 scale = new Vector2(getFloat("scale_x", 1f), getFloat("scale_y", 1f));
+
+			float angle = getFloat("angle", 0f);
+
+			if(type.equalsIgnoreCase("object") || type.equalsIgnoreCase("sprite"))
+			{
+				TextureSpriteDrawable asset = project.getAsset(getInt("folder"), getInt("file")); //corresponding sprite
+
+				float alpha = getFloat("a", 1f);
+				timelineKey.setObject(new Sprite(asset, position, scale, angle, alpha));
+			}
+			else if(type.equalsIgnoreCase("bone"))
+				timelineKey.setObject(new AnimatedPart(position, scale, angle));
+		}
+
+		private Curve readCurve()
+		{
+			return SCMLReader.createCurve(get("curve_type", "linear"),
+					getFloat("c1", 0f),
+					getFloat("c2", 0f),
+					getFloat("c3", 0f),
+					getFloat("c4", 0f));
+		}
+
+		/**
+		 * Tests if the element on top of the path has the specified name, depth and parent
+		 *
+		 * @param depth expected depth, 0 for the root
+		 * @param name expected name
+		 * @param parent expected name of the parent, null for any
+		 * @return true if the element matches
+		 */
+		private boolean is(int depth, String name, String parent)
+		{
+			return path.size == depth + 1
+					&& path.peek().equals(name)
+					&& (parent == null || path.get(depth - 1).equals(parent));
+		}
+
+		private boolean isMainlineKey()
+		{
+			return path.get(3).equals("mainline");
+		}
+
+		private String get(String name)
+		{
+			String value = attributes.get(name);
+
+			if(value == null)
+				throw new GdxRuntimeException("Element " + path.peek() + " doesn't have attribute: " + name);
+
+			return value;
+		}
+
+		private String get(String name, String defaultValue)
+		{
+			String value = attributes.get(name);
+			return value != null ? value : defaultValue;
+		}
+
+		private int getInt(String name)
+		{
+			return Integer.parseInt(get(name));
+		}
+
+		private int getInt(String name, int defaultValue)
+		{
+			String value = attributes.get(name);
+			return value != null ? Integer.parseInt(value) : defaultValue;
+		}
+
+		private float getFloat(String name, float defaultValue)
+		{
+			String value = attributes.get(name);
+			return value != null ? Float.parseFloat(value) : defaultValue;
+		}
+
+		private boolean getBoolean(String name, boolean defaultValue)
+		{
+			String value = attributes.get(name);
+			return value != null ? Boolean.parseBoolean(value) : defaultValue;
+		}
+	}
+}
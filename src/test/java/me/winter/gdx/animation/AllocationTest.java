@@ -0,0 +1,297 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import me.winter.gdx.animation.drawable.MultiSpriteDrawable;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.render.RecordingBatch;
+import me.winter.gdx.animation.render.RenderQueue;
+import me.winter.gdx.animation.render.VertexRenderer;
+import me.winter.gdx.animation.scml.SCMLProject;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that updating and drawing animations allocates nothing once warmed up. Each scenario plays thousands of
+ * frames on a generated project while {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])}
+ * measures the bytes allocated by the thread running the test and by the workers of its pool.
+ * <p>
+ * The build runs the tests without escape analysis, as on VMs which lack it, so that allocations the JIT of the
+ * build happens to eliminate still fail.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AllocationTest
+{
+	private static final int FRAMES = 10000, WARMUP_FRAMES = 20000;
+	private static final float FRAME = 1000f / 60f;
+
+	private static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private static final LongArray measured = new LongArray(); //ids of the threads measured
+
+	private static SCMLProject project;
+	private static ForkJoinPool pool;
+
+	private final RecordingBatch batch = new RecordingBatch(1000, false);
+	private final Rectangle view = new Rectangle(-20f, -20f, 40f, 40f);
+
+	@BeforeClass
+	public static void setUp()
+	{
+		assumeTrue("The JVM does not measure the memory allocated by threads", threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setFolders(2);
+		generator.setTextures(2);
+		generator.setEntities(2);
+		generator.setAnimations(2);
+		generator.setBones(16);
+		generator.setDepth(4);
+		generator.setSprites(24);
+		generator.setKeys(12);
+
+		project = generator.load();
+
+		measured.add(Thread.currentThread().getId());
+
+		pool = new ForkJoinPool(3, p -> {
+			ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+
+			synchronized(measured)
+			{
+				measured.add(worker.getId());
+			}
+
+			return worker;
+		}, null, false);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		if(pool != null)
+			pool.shutdown();
+	}
+
+	@Test
+	public void update()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+
+		assertNoAllocation(() -> animation.update(FRAME));
+	}
+
+	@Test
+	public void draw()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+			batch.begin();
+			animation.draw(batch);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void drawInView()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+			batch.begin();
+			animation.draw(batch, view);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void updateNotLooping()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+		animation.setLooping(false);
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+
+			if(animation.isDone())
+				animation.setTime(0f);
+		});
+	}
+
+	@Test
+	public void updateWithTransformations()
+	{
+		Entity entity = project.getEntity(SCMLGenerator.getEntityName(0));
+		Animation animation = entity.getAnimation(1);
+		entity.setTransformation("bone0", part -> part.setAngle(part.getAngle() + 15f));
+		entity.setTransformation("sprite20", part -> part.getScale().scl(2f));
+
+		assertNoAllocation(() -> animation.update(FRAME));
+	}
+
+	@Test
+	public void updateBaked()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+		animation.setBaked(animation.getData().getBaked(30f, 240f, 0.5f));
+
+		assertNoAllocation(() -> animation.update(FRAME));
+	}
+
+	@Test
+	public void drawInterpolated()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+		animation.setSnapshots(true, true);
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+			batch.begin();
+			animation.draw(batch, 0.5f);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void vertexRenderer()
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+		VertexRenderer renderer = new VertexRenderer();
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+			batch.begin();
+			renderer.draw(batch, animation);
+			renderer.flush(batch);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void drawOverriddenDrawables()
+	{
+		Entity entity = project.getEntity(SCMLGenerator.getEntityName(1));
+		Animation animation = entity.getAnimation(0);
+		entity.tintSprite("sprite16", Color.RED);
+		entity.tintSprite("sprite17", new Color(1f, 1f, 1f, 0.5f));
+		entity.setSpriteDrawable("sprite18", new MultiSpriteDrawable(project.getAsset(0, 0), project.getAsset(1, 1)));
+
+		VertexRenderer renderer = new VertexRenderer();
+
+		assertNoAllocation(() -> {
+			animation.update(FRAME);
+			batch.begin();
+			animation.draw(batch, view);
+			renderer.draw(batch, animation, view);
+			renderer.flush(batch);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void renderQueue()
+	{
+		Array<Animation> animations = createAnimations(8);
+		RenderQueue queue = new RenderQueue();
+
+		assertNoAllocation(() -> {
+			for(int i = 0; i < animations.size; i++)
+			{
+				Animation animation = animations.get(i);
+				animation.update(FRAME);
+				queue.add(animation, i % 2);
+			}
+
+			batch.begin();
+			queue.draw(batch);
+			batch.end();
+		});
+	}
+
+	@Test
+	public void animationSystem()
+	{
+		Array<Animation> animations = createAnimations(8);
+		AnimationSystem system = new AnimationSystem(pool, 4);
+
+		for(int i = 0; i < animations.size; i++)
+			system.add(animations.get(i));
+
+		assertNoAllocation(() -> {
+			system.update(FRAME);
+			batch.begin();
+			system.draw(batch, view);
+			batch.end();
+		});
+	}
+
+	private static Array<Animation> createAnimations(int count)
+	{
+		Animation animation = project.getEntity(SCMLGenerator.getEntityName(0)).getAnimation(0);
+		Array<Animation> animations = new Array<>();
+
+		for(int i = 0; i < count; i++)
+		{
+			Animation copy = new Animation(animation);
+			copy.setTime(i * 100f);
+			animations.add(copy);
+		}
+
+		return animations;
+	}
+
+	private static void assertNoAllocation(Runnable frame)
+	{
+		for(int i = 0; i < WARMUP_FRAMES; i++)
+			frame.run();
+
+		long overhead = measure(() -> {});
+		long allocated = Math.max(measure(frame) - overhead, 0L);
+
+		assertEquals(String.format(Locale.ENGLISH, "Allocated %.2f bytes/frame in steady state", (double)allocated / FRAMES), 0L, allocated);
+	}
+
+	/**
+	 * @return bytes allocated by the measured threads while playing the frames
+	 */
+	private static long measure(Runnable frame)
+	{
+		long[] ids;
+
+		synchronized(measured)
+		{
+			ids = measured.toArray();
+		}
+
+		long[] start = threads.getThreadAllocatedBytes(ids);
+
+		for(int i = 0; i < FRAMES; i++)
+			frame.run();
+
+		long[] end = threads.getThreadAllocatedBytes(ids);
+		long allocated = 0L;
+
+		for(int i = 0; i < ids.length; i++)
+			if(start[i] != -1L && end[i] != -1L) //-1 for threads which ended
+				allocated += end[i] - start[i];
+
+		return allocated;
+	}
+}
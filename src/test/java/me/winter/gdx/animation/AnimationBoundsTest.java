@@ -0,0 +1,145 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import me.winter.gdx.animation.scml.SCMLProject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the bounds of {@link AnimationBounds} hold every corner of every sprite drawn at every millisecond of
+ * the animation, looping and not.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationBoundsTest
+{
+	private static final float TOLERANCE = 1e-3f;
+
+	@Test
+	public void generatedAnimations()
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setBones(6);
+		generator.setDepth(3);
+		generator.setSprites(6);
+		generator.setKeys(8);
+		generator.setAnimations(3);
+		generator.setCurves(CurveType.values());
+
+		SCMLProject project = generator.load();
+
+		for(EntityData entity : project.getSourceEntities())
+			for(AnimationData animation : entity.getAnimations())
+				assertContained(animation);
+	}
+
+	@Test
+	public void keysAfterStartAndCurvesOvershooting()
+	{
+		SpriteDrawable drawable = new TextureSpriteDrawable(null, 0.25f, 0.75f, 30f, 10f);
+
+		//the mainline key at 600 tweens the key at 500 past the key at 800, the first key starts late
+		Curve[] curves = {
+				new Curve(CurveType.QUADRATIC, 2f, 0f, 0f, 0f),
+				new Curve(CurveType.CUBIC, -1f, 2f, 0f, 0f),
+				new Curve(CurveType.BEZIER, 0.2f, -0.5f, 0.8f, 1.5f)
+		};
+
+		Array<Timeline> timelines = new Array<>();
+		Array<TimelineKey> boneKeys = new Array<>(), spriteKeys = new Array<>();
+		int[] times = { 100, 500, 800 };
+
+		for(int i = 0; i < times.length; i++)
+		{
+			TimelineKey bone = new TimelineKey(times[i], 1, curves[i]);
+			bone.setObject(new AnimatedPart(new Vector2(20f * i - 10f, 15f - 10f * i), new Vector2(1f + i, 2f - i), 90f * i));
+			boneKeys.add(bone);
+
+			TimelineKey sprite = new TimelineKey(times[i], -1, curves[(i + 1) % curves.length]);
+			sprite.setObject(new Sprite(drawable, new Vector2(5f * i, -8f), new Vector2(1.5f - i, 1f), 45f * i, 1f));
+			spriteKeys.add(sprite);
+		}
+
+		timelines.add(new Timeline(0, "bone", boneKeys));
+		timelines.add(new SpriteTimeline(1, "sprite", spriteKeys, 0));
+
+		Mainline mainline = new Mainline(2);
+
+		for(int i = 0; i < 2; i++)
+		{
+			ObjectRef bone = new ObjectRef(0, i, null);
+			mainline.getKeys().add(new MainlineKey(200 + 400 * i, curves[i], Array.with(bone, new ObjectRef(1, i, bone))));
+		}
+
+		assertContained(new AnimationData("animation", 1000, true, mainline, timelines));
+	}
+
+	private static void assertContained(AnimationData data)
+	{
+		AnimationBounds bounds = data.getBounds();
+		Rectangle box = new Rectangle(), drawableBounds = new Rectangle();
+
+		assertTrue(bounds.isBounded());
+		assertFalse(bounds.isEmpty());
+		assertTrue(bounds.getBounds(box));
+
+		Animation animation = new Animation(data);
+
+		for(boolean looping : new boolean[] { true, false })
+		{
+			animation.setLooping(looping);
+
+			for(int time = 0; time <= data.getLength(); time++)
+			{
+				animation.setTime(time);
+				animation.update(0f);
+
+				Pose pose = animation.getPose();
+				Array<ObjectRef> refs = data.getMainline().getKeyBeforeTime((int)animation.getTime(), looping).objectRefs;
+
+				for(int i = 0; i < refs.size; i++)
+				{
+					int index = refs.get(i).timeline;
+
+					if(pose.drawable[index] == null || !pose.drawable[index].getBounds(drawableBounds))
+						continue;
+
+					float left = drawableBounds.x, bottom = drawableBounds.y;
+					float right = left + drawableBounds.width, top = bottom + drawableBounds.height;
+
+					String at = data.getName() + (looping ? " looping" : " not looping") + " at " + time;
+
+					assertCorner(at, bounds, box, pose, index, left, bottom);
+					assertCorner(at, bounds, box, pose, index, left, top);
+					assertCorner(at, bounds, box, pose, index, right, top);
+					assertCorner(at, bounds, box, pose, index, right, bottom);
+				}
+			}
+		}
+	}
+
+	private static void assertCorner(String at, AnimationBounds bounds, Rectangle box, Pose pose, int index, float localX, float localY)
+	{
+		float x = pose.m00[index] * localX + pose.m01[index] * localY + pose.x[index];
+		float y = pose.m10[index] * localX + pose.m11[index] * localY + pose.y[index];
+
+		assertTrue(at + ": (" + x + ", " + y + ") out of " + box, x >= box.x - TOLERANCE
+				&& y >= box.y - TOLERANCE
+				&& x <= box.x + box.width + TOLERANCE
+				&& y <= box.y + box.height + TOLERANCE);
+
+		assertTrue(at + ": (" + x + ", " + y + ") out of reach " + bounds.getReach(),
+				(float)Math.sqrt(x * x + y * y) <= bounds.getReach() + TOLERANCE);
+	}
+}
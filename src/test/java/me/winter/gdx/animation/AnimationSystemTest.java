@@ -0,0 +1,154 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.fixture.Fixtures;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Checks that {@link AnimationSystem} updates its animations as updating each of them sequentially does, whether it is
+ * updated from a thread of its executor or not, with chunks left queued from one update to the next.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class AnimationSystemTest
+{
+	private static final int ANIMATIONS = 12, CHUNK_SIZE = 2, FRAMES = 50;
+	private static final float FRAME = 1000f / 60f;
+
+	@Test(timeout = 30000L)
+	public void updateFromWorker() throws InterruptedException, ExecutionException
+	{
+		//the single worker is busy updating, so the chunks it submits stay queued and are claimed by the update itself
+		ForkJoinPool pool = new ForkJoinPool(1);
+
+		try
+		{
+			Animation source = Fixtures.animation(4, 8, CurveType.LINEAR);
+			Array<Animation> expected = createAnimations(source);
+			Array<Animation> animations = createAnimations(source);
+			AnimationSystem system = createSystem(pool, animations);
+
+			for(int frame = 0; frame < FRAMES; frame++)
+			{
+				pool.submit(() -> system.update(FRAME)).get();
+				update(expected);
+				assertPosesEquals(expected, animations);
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test(timeout = 30000L)
+	public void updateFromCaller()
+	{
+		ForkJoinPool pool = new ForkJoinPool(1);
+
+		try
+		{
+			Animation source = Fixtures.animation(4, 8, CurveType.LINEAR);
+			Array<Animation> expected = createAnimations(source);
+			Array<Animation> animations = createAnimations(source);
+			AnimationSystem system = createSystem(pool, animations);
+
+			for(int frame = 0; frame < FRAMES; frame++)
+			{
+				system.update(FRAME);
+				update(expected);
+				assertPosesEquals(expected, animations);
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test(timeout = 30000L)
+	public void updateOnExecutor()
+	{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			Animation source = Fixtures.animation(4, 8, CurveType.LINEAR);
+			Array<Animation> expected = createAnimations(source);
+			Array<Animation> animations = createAnimations(source);
+			AnimationSystem system = createSystem(executor, animations);
+
+			for(int frame = 0; frame < FRAMES; frame++)
+			{
+				system.update(FRAME);
+				update(expected);
+				assertPosesEquals(expected, animations);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static AnimationSystem createSystem(ExecutorService executor, Array<Animation> animations)
+	{
+		AnimationSystem system = new AnimationSystem(executor, CHUNK_SIZE);
+
+		for(int i = 0; i < animations.size; i++)
+			system.add(animations.get(i));
+
+		return system;
+	}
+
+	/**
+	 * @param animation animation to copy
+	 * @return copies of the animation at different times and speeds
+	 */
+	private static Array<Animation> createAnimations(Animation animation)
+	{
+		Array<Animation> animations = new Array<>();
+
+		for(int i = 0; i < ANIMATIONS; i++)
+		{
+			Animation copy = new Animation(animation);
+			copy.setTime(i * 70f);
+			copy.setSpeed(0.5f + i * 0.25f);
+			animations.add(copy);
+		}
+
+		return animations;
+	}
+
+	private static void update(Array<Animation> animations)
+	{
+		for(int i = 0; i < animations.size; i++)
+			animations.get(i).update(FRAME);
+	}
+
+	private static void assertPosesEquals(Array<Animation> expected, Array<Animation> actual)
+	{
+		for(int i = 0; i < expected.size; i++)
+		{
+			Pose expectedPose = expected.get(i).getPose(), pose = actual.get(i).getPose();
+
+			assertArrayEquals(expectedPose.x, pose.x, 0f);
+			assertArrayEquals(expectedPose.y, pose.y, 0f);
+			assertArrayEquals(expectedPose.scaleX, pose.scaleX, 0f);
+			assertArrayEquals(expectedPose.scaleY, pose.scaleY, 0f);
+			assertArrayEquals(expectedPose.angle, pose.angle, 0f);
+			assertArrayEquals(expectedPose.alpha, pose.alpha, 0f);
+			assertArrayEquals(expectedPose.drawable, pose.drawable);
+		}
+	}
+}
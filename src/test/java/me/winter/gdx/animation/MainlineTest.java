@@ -0,0 +1,181 @@
+package me.winter.gdx.animation;
+
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the key lookups of {@link Mainline}, with and without a cursor, against a linear scan of the keys.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class MainlineTest
+{
+	private static final int LENGTH = 1000, LOOKUPS = 2000;
+
+	private final Random random = new Random(42L);
+
+	@Test
+	public void binarySearch()
+	{
+		for(int keys = 1; keys <= 40; keys++)
+		{
+			Mainline mainline = createMainline(keys, random.nextBoolean());
+
+			for(int i = 0; i < LOOKUPS; i++)
+			{
+				int time = randomTime();
+
+				assertEquals("time " + time, linearSearch(mainline, time, true), mainline.getKeyIndexBeforeTime(time, true));
+				assertEquals("time " + time, linearSearch(mainline, time, false), mainline.getKeyIndexBeforeTime(time, false));
+			}
+		}
+	}
+
+	@Test
+	public void cursorMovingForward()
+	{
+		for(int keys = 1; keys <= 40; keys++)
+			for(boolean wrapAround : new boolean[] { true, false })
+				play(createMainline(keys, random.nextBoolean()), wrapAround, 1, 30);
+	}
+
+	@Test
+	public void cursorMovingBackward()
+	{
+		for(int keys = 1; keys <= 40; keys++)
+			for(boolean wrapAround : new boolean[] { true, false })
+				play(createMainline(keys, random.nextBoolean()), wrapAround, -30, -1);
+	}
+
+	@Test
+	public void cursorJumping()
+	{
+		for(int keys = 1; keys <= 40; keys++)
+		{
+			Mainline mainline = createMainline(keys, random.nextBoolean());
+
+			for(boolean wrapAround : new boolean[] { true, false })
+			{
+				int cursor = 0;
+
+				for(int i = 0; i < LOOKUPS; i++)
+				{
+					int time = randomTime();
+					cursor = assertLookup(mainline, time, wrapAround, cursor);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void cursorOutOfRange()
+	{
+		Mainline mainline = createMainline(8, false);
+
+		for(int cursor : new int[] { -1, 8, 100 })
+			for(int i = 0; i < LOOKUPS; i++)
+				assertLookup(mainline, randomTime(), random.nextBoolean(), cursor);
+	}
+
+	/**
+	 * Plays the mainline by random steps between the specified bounds, wrapping the time around the length of the
+	 * animation when it loops and clamping it otherwise
+	 */
+	private void play(Mainline mainline, boolean looping, int minStep, int maxStep)
+	{
+		int time = random.nextInt(LENGTH);
+		int cursor = mainline.getKeyIndexBeforeTime(time, looping);
+
+		for(int i = 0; i < LOOKUPS; i++)
+		{
+			time += minStep + random.nextInt(maxStep - minStep + 1);
+
+			if(looping)
+				time = Math.floorMod(time, LENGTH);
+			else
+				time = Math.max(0, Math.min(time, LENGTH - 1));
+
+			cursor = assertLookup(mainline, time, looping, cursor);
+		}
+	}
+
+	private static int assertLookup(Mainline mainline, int time, boolean wrapAround, int cursor)
+	{
+		int index = mainline.getKeyIndexBeforeTime(time, wrapAround, cursor);
+
+		assertEquals("time " + time + " from cursor " + cursor, linearSearch(mainline, time, wrapAround), index);
+		return index;
+	}
+
+	/**
+	 * @return index of the last key at or before the time, the last one if there is none and the search wraps around,
+	 * otherwise the first one
+	 */
+	private static int linearSearch(Mainline mainline, int time, boolean wrapAround)
+	{
+		Array<MainlineKey> keys = mainline.getKeys();
+		int found = -1;
+
+		for(int i = 0; i < keys.size; i++)
+			if(keys.get(i).time <= time)
+				found = i;
+
+		if(found == -1)
+			return wrapAround ? keys.size - 1 : 0;
+
+		return found;
+	}
+
+	/**
+	 * @param keys amount of keys
+	 * @param startAtZero true to place the first key at 0, otherwise it is placed later
+	 * @return mainline with keys at distinct random times
+	 */
+	private Mainline createMainline(int keys, boolean startAtZero)
+	{
+		boolean[] used = new boolean[LENGTH];
+		int placed = 0;
+
+		if(startAtZero)
+		{
+			used[0] = true;
+			placed++;
+		}
+
+		while(placed < keys)
+		{
+			int time = 1 + random.nextInt(LENGTH - 1);
+
+			if(!used[time])
+			{
+				used[time] = true;
+				placed++;
+			}
+		}
+
+		Curve curve = new Curve(CurveType.LINEAR);
+		Mainline mainline = new Mainline(keys);
+
+		for(int time = 0; time < LENGTH; time++)
+			if(used[time])
+				mainline.getKeys().add(new MainlineKey(time, curve, new Array<>()));
+
+		return mainline;
+	}
+
+	/**
+	 * @return random time, sometimes before the start or after the end of the animation
+	 */
+	private int randomTime()
+	{
+		return random.nextInt(LENGTH + 200) - 100;
+	}
+}
@@ -0,0 +1,182 @@
+package me.winter.gdx.animation.fixture;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import me.winter.gdx.animation.Animation;
+import me.winter.gdx.animation.math.Curve.CurveType;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Synthetic fixtures for the tests and the benchmarks: projects made by an {@link SCMLGenerator} from a fixed seed
+ * and textures which do not need an OpenGL context, so that results only depend on the code measured.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class Fixtures
+{
+	/**
+	 * Length of the generated animations, in milliseconds
+	 */
+	public static final int LENGTH = 1000;
+
+	private Fixtures() {}
+
+	/**
+	 * Sets {@link Gdx#gl} to an implementation doing nothing, if none is set, so that textures can be created without
+	 * an OpenGL context
+	 */
+	public static synchronized void installHeadlessGL()
+	{
+		if(Gdx.gl != null)
+			return;
+
+		GL20 gl = (GL20)Proxy.newProxyInstance(Fixtures.class.getClassLoader(), new Class<?>[] { GL20.class, GL30.class },
+				(proxy, method, args) -> defaultValue(method.getReturnType()));
+
+		Gdx.gl = gl;
+		Gdx.gl20 = gl;
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if(type == boolean.class)
+			return false;
+		if(type == int.class)
+			return 1; //handles generated by the context are never 0
+		if(type == float.class)
+			return 0f;
+		if(type == long.class)
+			return 0L;
+		return null;
+	}
+
+	/**
+	 * Creates a texture of the specified size without uploading anything
+	 *
+	 * @param width width of the texture
+	 * @param height height of the texture
+	 * @return created texture
+	 */
+	public static Texture texture(int width, int height)
+	{
+		installHeadlessGL();
+		return new Texture(new HeadlessTextureData(width, height));
+	}
+
+	/**
+	 * Creates a generator of projects of one entity holding one looping animation of {@link #LENGTH} milliseconds,
+	 * with a sprite on each bone
+	 *
+	 * @param bones amount of bones, and of sprites
+	 * @param keys amount of keys of each timeline and of the mainline
+	 * @param curve curve of every key
+	 * @return configured generator
+	 */
+	public static SCMLGenerator generator(int bones, int keys, CurveType curve)
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setBones(bones);
+		generator.setSprites(bones);
+		generator.setKeys(keys);
+		generator.setLength(LENGTH);
+		generator.setCurves(curve);
+		return generator;
+	}
+
+	/**
+	 * Loads a project made by {@link #generator(int, int, CurveType)} and creates its animation
+	 *
+	 * @param bones amount of bones, and of sprites
+	 * @param keys amount of keys of each timeline and of the mainline
+	 * @param curve curve of every key
+	 * @return animation of the project
+	 */
+	public static Animation animation(int bones, int keys, CurveType curve)
+	{
+		return generator(bones, keys, curve).load()
+				.getEntity(SCMLGenerator.getEntityName(0))
+				.getAnimation(SCMLGenerator.getAnimationName(0));
+	}
+
+	/**
+	 * Texture data of the specified size, uploading nothing
+	 */
+	private static class HeadlessTextureData implements TextureData
+	{
+		private final int width, height;
+
+		public HeadlessTextureData(int width, int height)
+		{
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public TextureDataType getType()
+		{
+			return TextureDataType.Custom;
+		}
+
+		@Override
+		public boolean isPrepared()
+		{
+			return true;
+		}
+
+		@Override
+		public void prepare() {}
+
+		@Override
+		public Pixmap consumePixmap()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean disposePixmap()
+		{
+			return false;
+		}
+
+		@Override
+		public void consumeCustomData(int target) {}
+
+		@Override
+		public int getWidth()
+		{
+			return width;
+		}
+
+		@Override
+		public int getHeight()
+		{
+			return height;
+		}
+
+		@Override
+		public Format getFormat()
+		{
+			return Format.RGBA8888;
+		}
+
+		@Override
+		public boolean useMipMaps()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isManaged()
+		{
+			return false;
+		}
+	}
+}
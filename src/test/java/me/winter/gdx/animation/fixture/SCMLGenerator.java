@@ -0,0 +1,439 @@
+package me.winter.gdx.animation.fixture;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import me.winter.gdx.animation.scml.SCMLProject;
+import me.winter.gdx.animation.scml.SCMLReader;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates valid Spriter SCML projects of configurable size, along with a matching atlas of textures which do not
+ * need an OpenGL context, to stress the reader and the runtime far beyond the size of real projects.
+ * <p>
+ * Every animation has the same hierarchy: bones form chains of {@link #setDepth(int) depth} bones hanging from the
+ * root, sprites are attached to the bones in turn, and every timeline and the mainline have the same amount of keys,
+ * spread evenly over the animation. Keys use curves picked among the {@link #setCurves(CurveType...) curves} given.
+ * The same seed always generates the same project.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class SCMLGenerator
+{
+	private long seed = 42L;
+
+	private int folders = 1, files = 8, textures = 1;
+	private int entities = 1, animations = 1;
+	private int bones = 16, depth = 4, sprites = 16;
+	private int keys = 8, length = 1000;
+	private boolean looping = true;
+	private CurveType[] curves = CurveType.values();
+
+	public SCMLGenerator() {}
+
+	/**
+	 * Generates the SCML document of the project
+	 *
+	 * @return SCML document
+	 */
+	public String generate()
+	{
+		if(keys > length)
+			throw new IllegalStateException("Keys (" + keys + ") must be at most one per millisecond of length (" + length + ")");
+
+		Random random = new Random(seed);
+		StringBuilder xml = new StringBuilder();
+
+		xml.append("<spriter_data scml_version=\"1.0\" generator=\"SCMLGenerator\">\n");
+
+		for(int folder = 0; folder < folders; folder++)
+		{
+			xml.append("<folder id=\"").append(folder).append("\" name=\"folder").append(folder).append("\">\n");
+
+			for(int file = 0; file < files; file++)
+				xml.append("<file id=\"").append(file)
+						.append("\" name=\"folder").append(folder).append('/').append(getImageName(folder, file))
+						.append(".png\" pivot_x=\"").append(random.nextFloat())
+						.append("\" pivot_y=\"").append(random.nextFloat()).append("\"/>\n");
+
+			xml.append("</folder>\n");
+		}
+
+		for(int entity = 0; entity < entities; entity++)
+		{
+			xml.append("<entity id=\"").append(entity).append("\" name=\"").append(getEntityName(entity)).append("\">\n");
+
+			for(int animation = 0; animation < animations; animation++)
+				appendAnimation(xml, animation, random);
+
+			xml.append("</entity>\n");
+		}
+
+		xml.append("</spriter_data>\n");
+
+		return xml.toString();
+	}
+
+	private void appendAnimation(StringBuilder xml, int id, Random random)
+	{
+		xml.append("<animation id=\"").append(id).append("\" name=\"").append(getAnimationName(id))
+				.append("\" length=\"").append(length).append('"');
+		if(!looping)
+			xml.append(" looping=\"false\"");
+		xml.append(">\n");
+
+		xml.append("<mainline>\n");
+
+		for(int k = 0; k < keys; k++)
+		{
+			xml.append("<key id=\"").append(k).append("\" time=\"").append(getKeyTime(k)).append('"');
+			appendCurve(xml, random);
+			xml.append(">\n");
+
+			for(int b = 0; b < bones; b++)
+			{
+				xml.append("<bone_ref id=\"").append(b).append('"');
+				if(b % depth != 0)
+					xml.append(" parent=\"").append(b - 1).append('"');
+				xml.append(" timeline=\"").append(b).append("\" key=\"").append(k).append("\"/>\n");
+			}
+
+			for(int s = 0; s < sprites; s++)
+			{
+				xml.append("<object_ref id=\"").append(bones + s).append('"');
+				if(bones > 0)
+					xml.append(" parent=\"").append(s % bones).append('"');
+				xml.append(" timeline=\"").append(bones + s).append("\" key=\"").append(k)
+						.append("\" z_index=\"").append(s).append("\"/>\n");
+			}
+
+			xml.append("</key>\n");
+		}
+
+		xml.append("</mainline>\n");
+
+		for(int t = 0; t < bones + sprites; t++)
+		{
+			boolean bone = t < bones;
+
+			xml.append("<timeline id=\"").append(t).append("\" name=\"").append(bone ? "bone" : "sprite").append(t).append('"');
+			if(bone)
+				xml.append(" object_type=\"bone\"");
+			xml.append(">\n");
+
+			for(int k = 0; k < keys; k++)
+			{
+				xml.append("<key id=\"").append(k).append("\" time=\"").append(getKeyTime(k))
+						.append("\" spin=\"").append(random.nextBoolean() ? 1 : -1).append('"');
+				appendCurve(xml, random);
+				xml.append('>');
+
+				if(bone)
+					xml.append("<bone");
+				else
+					xml.append("<object folder=\"").append(random.nextInt(folders))
+							.append("\" file=\"").append(random.nextInt(files)).append('"');
+
+				xml.append(" x=\"").append(random.nextFloat() * 40f - 20f)
+						.append("\" y=\"").append(random.nextFloat() * 40f - 20f)
+						.append("\" angle=\"").append(random.nextFloat() * 360f)
+						.append("\" scale_x=\"").append(0.8f + random.nextFloat() * 0.4f)
+						.append("\" scale_y=\"").append(0.8f + random.nextFloat() * 0.4f).append('"');
+				if(!bone)
+					xml.append(" a=\"").append(0.5f + random.nextFloat() * 0.5f).append('"');
+				xml.append("/></key>\n");
+			}
+
+			xml.append("</timeline>\n");
+		}
+
+		xml.append("</animation>\n");
+	}
+
+	private void appendCurve(StringBuilder xml, Random random)
+	{
+		CurveType curve = curves[random.nextInt(curves.length)];
+
+		if(curve == CurveType.LINEAR)
+			return;
+
+		xml.append(" curve_type=\"").append(curve.name().toLowerCase(Locale.ENGLISH)).append('"');
+
+		if(curve == CurveType.INSTANT)
+			return;
+
+		//bezier control points must stay between 0 and 1 in time, the others are weights
+		for(int i = 1; i <= 4; i++)
+			xml.append(" c").append(i).append("=\"").append(random.nextFloat()).append('"');
+	}
+
+	/**
+	 * Creates an atlas holding a region for every file of the project, spread over {@link #setTextures(int) textures}
+	 * created without an OpenGL context
+	 *
+	 * @return created atlas
+	 */
+	public TextureAtlas createAtlas()
+	{
+		Random random = new Random(seed);
+		TextureAtlas atlas = new TextureAtlas();
+
+		Texture[] pages = new Texture[textures];
+		for(int i = 0; i < textures; i++)
+			pages[i] = Fixtures.texture(1024, 1024);
+
+		for(int folder = 0; folder < folders; folder++)
+		{
+			for(int file = 0; file < files; file++)
+			{
+				Texture texture = pages[(folder * files + file) % textures];
+				int width = 8 + random.nextInt(120), height = 8 + random.nextInt(120);
+
+				atlas.addRegion(getImageName(folder, file), new TextureRegion(texture,
+						random.nextInt(1024 - width), random.nextInt(1024 - height), width, height));
+			}
+		}
+
+		return atlas;
+	}
+
+	/**
+	 * Generates the project and loads it with an atlas made by {@link #createAtlas()}
+	 *
+	 * @return loaded project
+	 */
+	public SCMLProject load()
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(createAtlas());
+		return reader.load(generate());
+	}
+
+	private int getKeyTime(int key)
+	{
+		return (int)((long)key * length / keys);
+	}
+
+	/**
+	 * @param folder id of the folder
+	 * @param file id of the file in the folder
+	 * @return name of the image of the specified file, which is also the name of its region in the atlas
+	 */
+	public static String getImageName(int folder, int file)
+	{
+		return "image" + folder + "_" + file;
+	}
+
+	/**
+	 * @param entity id of the entity
+	 * @return name of the specified entity
+	 */
+	public static String getEntityName(int entity)
+	{
+		return "entity" + entity;
+	}
+
+	/**
+	 * @param animation id of the animation in its entity
+	 * @return name of the specified animation
+	 */
+	public static String getAnimationName(int animation)
+	{
+		return "animation" + animation;
+	}
+
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	public void setSeed(long seed)
+	{
+		this.seed = seed;
+	}
+
+	public int getFolders()
+	{
+		return folders;
+	}
+
+	public void setFolders(int folders)
+	{
+		if(folders <= 0)
+			throw new IllegalArgumentException("Folders must be positive, got " + folders);
+
+		this.folders = folders;
+	}
+
+	public int getFiles()
+	{
+		return files;
+	}
+
+	/**
+	 * @param files amount of files in each folder
+	 */
+	public void setFiles(int files)
+	{
+		if(files <= 0)
+			throw new IllegalArgumentException("Files must be positive, got " + files);
+
+		this.files = files;
+	}
+
+	public int getTextures()
+	{
+		return textures;
+	}
+
+	/**
+	 * @param textures amount of textures the regions of the atlas are spread over
+	 */
+	public void setTextures(int textures)
+	{
+		if(textures <= 0)
+			throw new IllegalArgumentException("Textures must be positive, got " + textures);
+
+		this.textures = textures;
+	}
+
+	public int getEntities()
+	{
+		return entities;
+	}
+
+	public void setEntities(int entities)
+	{
+		if(entities < 0)
+			throw new IllegalArgumentException("Entities can't be negative, got " + entities);
+
+		this.entities = entities;
+	}
+
+	public int getAnimations()
+	{
+		return animations;
+	}
+
+	/**
+	 * @param animations amount of animations in each entity
+	 */
+	public void setAnimations(int animations)
+	{
+		if(animations < 0)
+			throw new IllegalArgumentException("Animations can't be negative, got " + animations);
+
+		this.animations = animations;
+	}
+
+	public int getBones()
+	{
+		return bones;
+	}
+
+	/**
+	 * @param bones amount of bones in each animation
+	 */
+	public void setBones(int bones)
+	{
+		if(bones < 0)
+			throw new IllegalArgumentException("Bones can't be negative, got " + bones);
+
+		this.bones = bones;
+	}
+
+	public int getDepth()
+	{
+		return depth;
+	}
+
+	/**
+	 * @param depth amount of bones in each chain hanging from the root, 1 for bones all attached to the root
+	 */
+	public void setDepth(int depth)
+	{
+		if(depth <= 0)
+			throw new IllegalArgumentException("Depth must be positive, got " + depth);
+
+		this.depth = depth;
+	}
+
+	public int getSprites()
+	{
+		return sprites;
+	}
+
+	/**
+	 * @param sprites amount of sprites in each animation
+	 */
+	public void setSprites(int sprites)
+	{
+		if(sprites < 0)
+			throw new IllegalArgumentException("Sprites can't be negative, got " + sprites);
+
+		this.sprites = sprites;
+	}
+
+	public int getKeys()
+	{
+		return keys;
+	}
+
+	/**
+	 * @param keys amount of keys of the mainline and of each timeline
+	 */
+	public void setKeys(int keys)
+	{
+		if(keys <= 0)
+			throw new IllegalArgumentException("Keys must be positive, got " + keys);
+
+		this.keys = keys;
+	}
+
+	public int getLength()
+	{
+		return length;
+	}
+
+	/**
+	 * @param length length of each animation, in milliseconds
+	 */
+	public void setLength(int length)
+	{
+		if(length <= 0)
+			throw new IllegalArgumentException("Length must be positive, got " + length);
+
+		this.length = length;
+	}
+
+	public boolean isLooping()
+	{
+		return looping;
+	}
+
+	public void setLooping(boolean looping)
+	{
+		this.looping = looping;
+	}
+
+	public CurveType[] getCurves()
+	{
+		return curves;
+	}
+
+	/**
+	 * @param curves curves to pick from for each key
+	 */
+	public void setCurves(CurveType... curves)
+	{
+		if(curves.length == 0)
+			throw new IllegalArgumentException("At least one curve type is required");
+
+		this.curves = curves;
+	}
+}
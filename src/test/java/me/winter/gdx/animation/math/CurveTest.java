@@ -0,0 +1,141 @@
+package me.winter.gdx.animation.math;
+
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static me.winter.gdx.animation.math.Interpolator.cubic;
+import static me.winter.gdx.animation.math.Interpolator.linear;
+import static me.winter.gdx.animation.math.Interpolator.quadratic;
+import static me.winter.gdx.animation.math.Interpolator.quartic;
+import static me.winter.gdx.animation.math.Interpolator.quintic;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the polynomials {@link Curve} expands its constraints into ease as the de Casteljau evaluation of
+ * {@link Interpolator} does, for random constraints, including ones out of [0, 1].
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class CurveTest
+{
+	private static final int CURVES = 500, WEIGHTS = 200;
+	/**
+	 * Error allowed relative to the magnitude of the result, both evaluations rounding to floats, and the power basis
+	 * more so with constraints out of [0, 1]
+	 */
+	private static final float TOLERANCE = 1e-5f;
+
+	private final Random random = new Random(42L);
+
+	@Test
+	public void easeQuadratic()
+	{
+		for(int i = 0; i < CURVES; i++)
+		{
+			Curve curve = createCurve(CurveType.QUADRATIC);
+			float c1 = curve.constraints.c1;
+
+			for(int j = 0; j <= WEIGHTS; j++)
+			{
+				float t = (float)j / WEIGHTS;
+				assertEase(curve, t, quadratic(0f, c1, 1f, t));
+			}
+		}
+	}
+
+	@Test
+	public void easeCubic()
+	{
+		for(int i = 0; i < CURVES; i++)
+		{
+			Curve curve = createCurve(CurveType.CUBIC);
+			float c1 = curve.constraints.c1, c2 = curve.constraints.c2;
+
+			for(int j = 0; j <= WEIGHTS; j++)
+			{
+				float t = (float)j / WEIGHTS;
+				assertEase(curve, t, cubic(0f, c1, c2, 1f, t));
+			}
+		}
+	}
+
+	@Test
+	public void easeQuartic()
+	{
+		for(int i = 0; i < CURVES; i++)
+		{
+			Curve curve = createCurve(CurveType.QUARTIC);
+			float c1 = curve.constraints.c1, c2 = curve.constraints.c2, c3 = curve.constraints.c3;
+
+			for(int j = 0; j <= WEIGHTS; j++)
+			{
+				float t = (float)j / WEIGHTS;
+				assertEase(curve, t, quartic(0f, c1, c2, c3, 1f, t));
+			}
+		}
+	}
+
+	@Test
+	public void easeQuintic()
+	{
+		for(int i = 0; i < CURVES; i++)
+		{
+			Curve curve = createCurve(CurveType.QUINTIC);
+			Curve.Constraints constraints = curve.constraints;
+
+			for(int j = 0; j <= WEIGHTS; j++)
+			{
+				float t = (float)j / WEIGHTS;
+				assertEase(curve, t, quintic(0f, constraints.c1, constraints.c2, constraints.c3, constraints.c4, 1f, t));
+			}
+		}
+	}
+
+	@Test
+	public void interpolate()
+	{
+		//tweening the eased weight linearly is the same as tweening through the constraints mapped between a and b
+		for(int i = 0; i < CURVES; i++)
+		{
+			Curve curve = createCurve(CurveType.CUBIC);
+			float c1 = curve.constraints.c1, c2 = curve.constraints.c2;
+			float a = random.nextFloat() * 200f - 100f, b = random.nextFloat() * 200f - 100f;
+
+			for(int j = 0; j <= WEIGHTS; j++)
+			{
+				float t = (float)j / WEIGHTS;
+				float expected = cubic(a, linear(a, b, c1), linear(a, b, c2), b, t);
+
+				assertEquals("t " + t, expected, curve.interpolate(a, b, t), TOLERANCE * Math.max(Math.abs(a), Math.abs(b)));
+			}
+		}
+	}
+
+	private Curve createCurve(CurveType type)
+	{
+		return new Curve(type, randomConstraint(), randomConstraint(), randomConstraint(), randomConstraint());
+	}
+
+	/**
+	 * @return random constraint, out of [0, 1] once in three times
+	 */
+	private float randomConstraint()
+	{
+		if(random.nextInt(3) == 0)
+			return random.nextFloat() * 4f - 1.5f;
+
+		return random.nextFloat();
+	}
+
+	private static void assertEase(Curve curve, float t, float expected)
+	{
+		Curve.Constraints constraints = curve.constraints;
+
+		assertEquals(curve.getType() + " " + constraints.c1 + " " + constraints.c2 + " " + constraints.c3 + " "
+				+ constraints.c4 + " at " + t, expected, curve.ease(t), TOLERANCE * Math.max(1f, Math.abs(expected)));
+	}
+}
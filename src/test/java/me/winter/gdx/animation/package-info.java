@@ -1,8 +1,9 @@
 /**
- * TODO create tests using junit
+ * Tests of the library, run by the test phase of the build. Synthetic projects and textures are made by the fixtures
+ * of {@link me.winter.gdx.animation.fixture}, also used by the benchmarks.
  * <p>
  * Created on 2017-06-08.
  *
  * @author Alexander Winter
  */
-package me.winter.gdx.animation;
\ No newline at end of file
+package me.winter.gdx.animation;
@@ -0,0 +1,177 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import me.winter.gdx.animation.AnimatedPart;
+import me.winter.gdx.animation.AnimationBounds;
+import me.winter.gdx.animation.AnimationData;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.Mainline;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.TimelineKey;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import me.winter.gdx.animation.math.Curve;
+import me.winter.gdx.animation.math.Curve.CurveType;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static me.winter.gdx.animation.scml.ProjectAssert.assertProjectEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that projects compiled by {@link SCMLCompiler} are read back by {@link CompiledSCMLReader} as they were
+ * before compiling, with the bounds of the regions of the atlas they are loaded with.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class CompiledSCMLReaderTest
+{
+	@Test
+	public void roundTrip()
+	{
+		SCMLGenerator generator = createGenerator(42L);
+		TextureAtlas atlas = generator.createAtlas();
+		SCMLProject project = load(generator, atlas);
+
+		byte[] compiled = new SCMLCompiler().compile(project);
+
+		CompiledSCMLReader reader = new CompiledSCMLReader();
+		reader.setAtlas(atlas);
+
+		assertProjectEquals(project, reader.load(compiled));
+		assertProjectEquals(project, reader.load(new ByteArrayInputStream(compiled)));
+	}
+
+	@Test
+	public void roundTripWithoutAtlas()
+	{
+		SCMLProject project = load(createGenerator(42L), null);
+
+		assertProjectEquals(project, new CompiledSCMLReader().load(new SCMLCompiler().compile(project)));
+	}
+
+	@Test
+	public void boundsComputedWhenLoading()
+	{
+		SCMLGenerator generator = createGenerator(42L);
+		TextureAtlas atlas = generator.createAtlas();
+		SCMLProject project = load(generator, atlas);
+
+		CompiledSCMLReader reader = new CompiledSCMLReader();
+		reader.setAtlas(atlas);
+
+		Array<AnimationData> expected = getAnimations(project);
+		Array<AnimationData> animations = getAnimations(reader.load(new SCMLCompiler().compile(project)));
+
+		for(int i = 0; i < animations.size; i++)
+			assertBoundsEquals(expected.get(i).getBounds(), animations.get(i).getBounds());
+	}
+
+	@Test
+	public void boundsOfOtherRegionSizes()
+	{
+		SCMLGenerator generator = createGenerator(42L);
+		SCMLProject project = load(generator, generator.createAtlas());
+
+		byte[] compiled = new SCMLCompiler().compile(project);
+
+		//same regions, sized differently
+		TextureAtlas resized = createGenerator(7L).createAtlas();
+
+		CompiledSCMLReader reader = new CompiledSCMLReader();
+		reader.setAtlas(resized);
+
+		Array<AnimationData> sources = getAnimations(project);
+		Array<AnimationData> animations = getAnimations(reader.load(compiled));
+		Array<AnimationData> expected = getAnimations(load(generator, resized));
+
+		for(int i = 0; i < animations.size; i++)
+		{
+			AnimationBounds bounds = animations.get(i).getBounds();
+
+			assertBoundsEquals(expected.get(i).getBounds(), bounds);
+			assertNotEquals(sources.get(i).getBounds().getReach(), bounds.getReach(), 0f);
+		}
+	}
+
+	@Test
+	public void childBeforeParent()
+	{
+		Curve curve = new Curve(CurveType.LINEAR);
+		Array<Timeline> timelines = new Array<>();
+
+		for(int i = 0; i < 2; i++)
+		{
+			TimelineKey key = new TimelineKey(0, 1, curve);
+			key.setObject(new AnimatedPart(new Vector2(i, 0f), new Vector2(1f, 1f), 0f));
+			timelines.add(new Timeline(i, "bone" + i, Array.with(key)));
+		}
+
+		ObjectRef parent = new ObjectRef(0, 0, null);
+		ObjectRef child = new ObjectRef(1, 0, parent);
+
+		Mainline mainline = new Mainline(1);
+		mainline.getKeys().add(new MainlineKey(0, curve, Array.with(child, parent)));
+
+		EntityData entity = new EntityData("entity");
+		entity.getAnimations().add(new AnimationData("animation", 100, true, mainline, timelines));
+
+		SCMLProject project = new SCMLProject();
+		project.getSourceEntities().add(entity);
+
+		SCMLProject read = new CompiledSCMLReader().load(new SCMLCompiler().compile(project));
+		Array<ObjectRef> refs = read.getSourceEntities().first().getAnimations().first().getMainline().getKeys().first().objectRefs;
+
+		assertProjectEquals(project, read);
+		assertSame(refs.get(1), refs.get(0).parent);
+	}
+
+	private static SCMLGenerator createGenerator(long seed)
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setSeed(seed);
+		generator.setFolders(2);
+		generator.setAnimations(2);
+		return generator;
+	}
+
+	private static SCMLProject load(SCMLGenerator generator, TextureAtlas atlas)
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		return reader.load(generator.generate());
+	}
+
+	private static Array<AnimationData> getAnimations(SCMLProject project)
+	{
+		Array<AnimationData> animations = new Array<>();
+
+		for(EntityData entity : project.getSourceEntities())
+			animations.addAll(entity.getAnimations());
+
+		return animations;
+	}
+
+	private static void assertBoundsEquals(AnimationBounds expected, AnimationBounds actual)
+	{
+		Rectangle expectedBox = new Rectangle(), actualBox = new Rectangle();
+
+		assertEquals(expected.isBounded(), actual.isBounded());
+		assertEquals(expected.getBounds(expectedBox), actual.getBounds(actualBox));
+		assertEquals(expectedBox, actualBox);
+		assertEquals(expected.getReach(), actual.getReach(), 0f);
+		assertTrue(actual.isBounded());
+		assertFalse(actual.isEmpty());
+	}
+}
@@ -0,0 +1,148 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.utils.IntMap;
+import me.winter.gdx.animation.AnimatedPart;
+import me.winter.gdx.animation.AnimationData;
+import me.winter.gdx.animation.EntityData;
+import me.winter.gdx.animation.MainlineKey;
+import me.winter.gdx.animation.ObjectRef;
+import me.winter.gdx.animation.Sprite;
+import me.winter.gdx.animation.SpriteTimeline;
+import me.winter.gdx.animation.Timeline;
+import me.winter.gdx.animation.TimelineKey;
+import me.winter.gdx.animation.drawable.SpriteDrawable;
+import me.winter.gdx.animation.drawable.TextureSpriteDrawable;
+import me.winter.gdx.animation.math.Curve;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares projects built by different readers, or loads, by their structure: entities, animations, timelines, keys,
+ * mainlines and assets, assets being referred to by their key rather than by identity. Projects are described line by
+ * line so that a failure shows the first difference.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+class ProjectAssert
+{
+	private ProjectAssert() {}
+
+	/**
+	 * Asserts that the specified projects have the same structure
+	 *
+	 * @param expected expected project
+	 * @param actual actual project
+	 */
+	static void assertProjectEquals(SCMLProject expected, SCMLProject actual)
+	{
+		assertEquals(describe(expected), describe(actual));
+	}
+
+	/**
+	 * @param project project to describe
+	 * @return description of the structure of the project, one line per element
+	 */
+	static String describe(SCMLProject project)
+	{
+		StringBuilder out = new StringBuilder();
+
+		IntMap<TextureSpriteDrawable> assets = project.getAssets();
+		int[] assetKeys = assets.keys().toArray().toArray();
+		Arrays.sort(assetKeys);
+
+		IdentityHashMap<SpriteDrawable, Integer> assetKeysByDrawable = new IdentityHashMap<>();
+
+		for(int key : assetKeys)
+		{
+			TextureSpriteDrawable asset = assets.get(key);
+			assetKeysByDrawable.put(asset, key);
+
+			out.append("asset ").append(key)
+					.append(' ').append(project.getAssetName(key >> 16, key & 0xFFFF))
+					.append(" pivot ").append(asset.getPivotX()).append(' ').append(asset.getPivotY())
+					.append(" size ").append(asset.getWidth()).append(' ').append(asset.getHeight())
+					.append(asset.getRegion() != null ? " region" : " no region")
+					.append('\n');
+		}
+
+		for(EntityData entity : project.getSourceEntities())
+		{
+			out.append("entity ").append(entity.getName()).append('\n');
+
+			for(AnimationData animation : entity.getAnimations())
+			{
+				out.append(" animation ").append(animation.getName())
+						.append(" length ").append(animation.getLength())
+						.append(animation.isLooping() ? " looping" : " not looping")
+						.append(" draw order ").append(Arrays.toString(animation.getDrawOrder()))
+						.append('\n');
+
+				for(Timeline timeline : animation.getTimelines())
+				{
+					out.append("  timeline ").append(timeline.getId()).append(' ').append(timeline.getName());
+
+					if(timeline instanceof SpriteTimeline)
+						out.append(" z-index ").append(((SpriteTimeline)timeline).getZIndex());
+
+					out.append('\n');
+
+					for(TimelineKey key : timeline.getKeys())
+						describe(out, key, assetKeysByDrawable);
+				}
+
+				for(MainlineKey key : animation.getMainline().getKeys())
+				{
+					out.append("  mainline key ").append(key.time).append(' ');
+					describe(out, key.curve);
+					out.append('\n');
+
+					for(ObjectRef ref : key.objectRefs)
+						out.append("   ref ").append(ref.timeline).append(' ').append(ref.key)
+								.append(" parent ").append(ref.parent != null ? key.objectRefs.indexOf(ref.parent, true) : -1)
+								.append('\n');
+				}
+			}
+		}
+
+		return out.toString();
+	}
+
+	private static void describe(StringBuilder out, TimelineKey key, IdentityHashMap<SpriteDrawable, Integer> assetKeys)
+	{
+		out.append("   key ").append(key.getTime()).append(" spin ").append(key.getSpin()).append(' ');
+		describe(out, key.getCurve());
+
+		AnimatedPart object = key.getObject();
+
+		if(object != null)
+		{
+			out.append(object instanceof Sprite ? " sprite" : " bone")
+					.append(" position ").append(object.getPosition())
+					.append(" scale ").append(object.getScale())
+					.append(" angle ").append(object.getAngle());
+
+			if(object instanceof Sprite)
+			{
+				Sprite sprite = (Sprite)object;
+				out.append(" alpha ").append(sprite.getAlpha())
+						.append(" asset ").append(sprite.getDrawable() != null ? assetKeys.get(sprite.getDrawable()) : null);
+			}
+		}
+
+		out.append('\n');
+	}
+
+	private static void describe(StringBuilder out, Curve curve)
+	{
+		out.append(curve.getType())
+				.append(' ').append(curve.constraints.c1)
+				.append(' ').append(curve.constraints.c2)
+				.append(' ').append(curve.constraints.c3)
+				.append(' ').append(curve.constraints.c4);
+	}
+}
@@ -0,0 +1,173 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static me.winter.gdx.animation.scml.ProjectAssert.assertProjectEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that the parallel loads of {@link SCMLReader}, of many files at once and of the animations of a file on a pool,
+ * build the same projects as loading each file sequentially.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class SCMLReaderTest
+{
+	private static final int FILES = 6;
+
+	private static ExecutorService executor;
+	private static ForkJoinPool animationPool;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setUp()
+	{
+		executor = Executors.newFixedThreadPool(4);
+		animationPool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		executor.shutdown();
+		animationPool.shutdown();
+	}
+
+	@Test
+	public void loadAll() throws IOException
+	{
+		TextureAtlas atlas = createGenerator(0L).createAtlas();
+		Array<String> documents = new Array<>();
+		Array<FileHandle> files = new Array<>();
+
+		for(int i = 0; i < FILES; i++)
+		{
+			documents.add(createGenerator(i).generate());
+			files.add(write(documents.get(i)));
+		}
+
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+
+		Array<SCMLProject> projects = reader.loadAll(files, executor);
+
+		assertEquals(FILES, projects.size);
+
+		for(int i = 0; i < FILES; i++)
+			assertProjectEquals(reader.load(documents.get(i)), projects.get(i));
+	}
+
+	@Test
+	public void loadAllFailure() throws IOException
+	{
+		Array<FileHandle> files = new Array<>();
+		files.add(write(createGenerator(0L).generate()));
+		files.add(new FileHandle(folder.getRoot()).child("missing.scml"));
+
+		try
+		{
+			new SCMLReader().loadAll(files, executor);
+			fail("Loading a missing file must fail");
+		}
+		catch(GdxRuntimeException ex)
+		{
+			assertTrue(ex.getMessage(), ex.getMessage().contains("missing.scml"));
+		}
+	}
+
+	@Test
+	public void animationPool()
+	{
+		SCMLGenerator generator = createGenerator(0L);
+		TextureAtlas atlas = generator.createAtlas();
+		String xml = generator.generate();
+
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		SCMLProject expected = reader.load(xml);
+
+		reader.setAnimationPool(animationPool);
+
+		for(int i = 0; i < 4; i++) //animations finish in any order, they must be added in the order of the file
+			assertProjectEquals(expected, reader.load(xml));
+	}
+
+	@Test
+	public void loadAllWithAnimationPool() throws IOException
+	{
+		TextureAtlas atlas = createGenerator(0L).createAtlas();
+		Array<String> documents = new Array<>();
+		Array<FileHandle> files = new Array<>();
+
+		for(int i = 0; i < FILES; i++)
+		{
+			documents.add(createGenerator(i).generate());
+			files.add(write(documents.get(i)));
+		}
+
+		SCMLReader sequential = new SCMLReader();
+		sequential.setAtlas(atlas);
+
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+		reader.setAnimationPool(animationPool);
+
+		Array<SCMLProject> projects = reader.loadAll(files, executor);
+
+		for(int i = 0; i < FILES; i++)
+			assertProjectEquals(sequential.load(documents.get(i)), projects.get(i));
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void animationPoolFailure()
+	{
+		//the first timeline of the last animation has no id, failing that animation only
+		String xml = createGenerator(0L).generate();
+		int last = xml.lastIndexOf("<timeline id=\"0\"");
+		xml = xml.substring(0, last) + xml.substring(last).replaceFirst("<timeline id=\"0\"", "<timeline");
+
+		SCMLReader reader = new SCMLReader();
+		reader.setAnimationPool(animationPool);
+		reader.load(xml);
+	}
+
+	/**
+	 * @param seed seed of the project, which names its regions the same whatever the seed
+	 * @return generator of a small project
+	 */
+	private static SCMLGenerator createGenerator(long seed)
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setSeed(seed);
+		generator.setEntities(2);
+		generator.setAnimations(3);
+		return generator;
+	}
+
+	private FileHandle write(String xml) throws IOException
+	{
+		FileHandle file = new FileHandle(folder.newFile());
+		file.writeString(xml, false, "UTF-8");
+		return file;
+	}
+}
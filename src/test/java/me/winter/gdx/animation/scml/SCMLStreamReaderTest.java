@@ -0,0 +1,128 @@
+package me.winter.gdx.animation.scml;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import me.winter.gdx.animation.fixture.SCMLGenerator;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static me.winter.gdx.animation.scml.ProjectAssert.assertProjectEquals;
+
+/**
+ * Checks that {@link SCMLStreamReader} builds the same projects as {@link SCMLReader} from the same SCML.
+ * <p>
+ * Created on 2026-10-15.
+ *
+ * @author Alexander Winter
+ */
+public class SCMLStreamReaderTest
+{
+	/**
+	 * Project leaving out every optional attribute, to compare the defaults of the readers
+	 */
+	private static final String DEFAULTS = "<spriter_data scml_version=\"1.0\">\n"
+			+ "<folder id=\"0\"><file id=\"0\" name=\"image.png\" width=\"16\" height=\"16\"/></folder>\n"
+			+ "<entity id=\"0\" name=\"entity\">\n"
+			+ "<animation id=\"0\" name=\"idle\" length=\"500\">\n"
+			+ "<mainline>\n"
+			+ "<key id=\"0\"><bone_ref id=\"0\" timeline=\"0\" key=\"0\"/>"
+			+ "<object_ref id=\"0\" parent=\"0\" timeline=\"1\" key=\"0\" z_index=\"0\"/></key>\n"
+			+ "<key id=\"1\" time=\"250\" curve_type=\"instant\"><bone_ref id=\"0\" timeline=\"0\" key=\"1\"/>"
+			+ "<object_ref id=\"0\" parent=\"0\" timeline=\"1\" key=\"0\" z_index=\"0\"/></key>\n"
+			+ "</mainline>\n"
+			+ "<timeline id=\"0\" name=\"bone\" object_type=\"bone\">\n"
+			+ "<key id=\"0\"><bone/></key>\n"
+			+ "<key id=\"1\" time=\"250\" spin=\"-1\" curve_type=\"quadratic\" c1=\"0.5\"><bone x=\"10\" angle=\"90\"/></key>\n"
+			+ "</timeline>\n"
+			+ "<timeline id=\"1\" name=\"sprite\">\n"
+			+ "<key id=\"0\"><object folder=\"0\" file=\"0\"/></key>\n"
+			+ "</timeline>\n"
+			+ "</animation>\n"
+			+ "</entity>\n"
+			+ "</spriter_data>\n";
+
+	/**
+	 * Project with markup the runtime skips and attributes written in other ways, the generated projects also being
+	 * larger than the buffer of the streaming reader
+	 */
+	private static final String MARKUP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<!DOCTYPE spriter_data>\n"
+			+ "<spriter_data scml_version = '1.0' generator=\"BrashMonkey Spriter\">\n"
+			+ "<!-- comment with <tags/>, -> and - > --->\n"
+			+ "<folder id=\"0\"><file id=\"0\" name=\"a&amp;b &lt;&#99;&#x64;&gt;.png\"/></folder>\n"
+			+ "<entity id='0' name=\"&quot;entity&apos;\">\n"
+			+ "<animation id=\"0\" name=\"idle\" length=\"500\" looping=\"false\">\n"
+			+ "<mainline><![CDATA[ <key/> ]]>\n"
+			+ "<key id=\"0\" ><bone_ref id=\"0\" timeline=\"0\" key=\"0\" />"
+			+ "<object_ref\tid=\"0\"\r\nparent=\"0\" timeline=\"1\" key=\"0\" z_index=\"0\"></object_ref></key>\n"
+			+ "</mainline >\n"
+			+ "<timeline id=\"0\" name=\"bone\" object_type=\"bone\">\n"
+			+ "<key id=\"0\">text<bone x=\"-4.5\"/></key>\n"
+			+ "</timeline>\n"
+			+ "<timeline id=\"1\" name=\"sprite\">\n"
+			+ "<key id=\"0\"><object folder=\"0\" file=\"0\" a=\"0.5\"/></key>\n"
+			+ "</timeline>\n"
+			+ "</animation>\n"
+			+ "</entity>\n"
+			+ "</spriter_data>\n";
+
+	@Test
+	public void generatedProject()
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setFolders(2);
+		generator.setEntities(2);
+		generator.setAnimations(2);
+
+		assertSameProject(generator.generate(), generator.createAtlas());
+	}
+
+	@Test
+	public void generatedProjectNotLooping()
+	{
+		SCMLGenerator generator = new SCMLGenerator();
+		generator.setLooping(false);
+
+		assertSameProject(generator.generate(), generator.createAtlas());
+	}
+
+	@Test
+	public void generatedProjectWithoutAtlas()
+	{
+		assertSameProject(new SCMLGenerator().generate(), null);
+	}
+
+	@Test
+	public void defaults()
+	{
+		assertSameProject(DEFAULTS, null);
+	}
+
+	@Test
+	public void markup()
+	{
+		assertSameProject(MARKUP, null);
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void unclosedElement()
+	{
+		new SCMLStreamReader().load(DEFAULTS.substring(0, DEFAULTS.lastIndexOf("</entity>")));
+	}
+
+	private static void assertSameProject(String xml, TextureAtlas atlas)
+	{
+		SCMLReader reader = new SCMLReader();
+		reader.setAtlas(atlas);
+
+		SCMLStreamReader streamReader = new SCMLStreamReader();
+		streamReader.setAtlas(atlas);
+
+		SCMLProject expected = reader.load(xml);
+
+		assertProjectEquals(expected, streamReader.load(xml));
+		assertProjectEquals(expected, streamReader.load(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+	}
+}